@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2024 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -18,6 +18,9 @@
 
 package jakarta.el;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 
 /**
@@ -48,6 +51,19 @@ public class ArrayELResolver extends ELResolver {
 
     private static final String LENGTH_PROPERTY_NAME = "length";
 
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class, int.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, int.class, Object.class);
+
+    /*
+     * The element accessors for each array class. Unlike java.lang.reflect.Array, the accessors can be inlined.
+     */
+    private static final ClassValue<ArrayAccessor> ARRAY_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected ArrayAccessor computeValue(Class<?> type) {
+            return new ArrayAccessor(type);
+        }
+    };
+
     /**
      * Creates a new read/write <code>ArrayELResolver</code>.
      */
@@ -151,22 +167,226 @@ public class ArrayELResolver extends ELResolver {
      */
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
+        Object value = lookupValue(context, base, property, true);
+        if (value == NOT_RESOLVED) {
+            return null;
+        }
+        return value;
+    }
 
+    /**
+     * If the base object is a Java language array, returns the value at the given index or the length of the array, as
+     * {@link #getValue} does, without using the <code>propertyResolved</code> property of the <code>ELContext</code>.
+     *
+     * @param context The context of this evaluation.
+     * @param base The array to analyze. Only bases that are Java language arrays are handled by this resolver.
+     * @param property The index of the value to be returned. Will be coerced into an integer.
+     * @return The value at the given index, the length of the array, <code>null</code> if the index is out of bounds or
+     * {@link #NOT_RESOLVED} if the base is not an array
+     * @throws IllegalArgumentException if the property could not be coerced into an integer.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution. The thrown
+     * exception must be included as the cause property of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Object resolveValue(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(ArrayELResolver.class)) {
+            return super.resolveValue(context, base, property);
+        }
+        return lookupValue(context, base, property, false);
+    }
+
+    /*
+     * getValue() passes resolve so that the property is resolved before the index is converted, as it has always been.
+     */
+    private Object lookupValue(ELContext context, Object base, Object property, boolean resolve) {
         if (context == null) {
             throw new NullPointerException();
         }
 
         if (base != null && base.getClass().isArray()) {
-            context.setPropertyResolved(base, property);
-            if (LENGTH_PROPERTY_NAME.equals(property)) {
+            if (resolve) {
+                context.setPropertyResolved(base, property);
+            } else {
+                context.notifyPropertyResolved(base, property);
+            }
+            int index;
+            if (property instanceof Integer) {
+                // Fast path for the most common type of index
+                index = ((Integer) property).intValue();
+            } else if (LENGTH_PROPERTY_NAME.equals(property)) {
                 return Integer.valueOf(Array.getLength(base));
+            } else {
+                index = toInteger(property);
             }
-            int index = toInteger(property);
             if (index >= 0 && index < Array.getLength(base)) {
-                return Array.get(base, index);
+                return ARRAY_ACCESSORS.get(base.getClass()).get(base, index);
             }
+            return null;
         }
-        return null;
+        return NOT_RESOLVED;
+    }
+
+    /**
+     * If the base object is a Java language array, returns the value at the given index coerced to
+     * <code>boolean</code>. Elements of a <code>boolean[]</code> at an <code>Integer</code> index are obtained without
+     * boxing them. Otherwise the result is the same as that of {@link ELResolver#getBoolean}.
+     *
+     * @param context The context of this evaluation.
+     * @param base The array to analyze. Only bases that are Java language arrays are handled by this resolver.
+     * @param property The index of the value to be returned. Will be coerced into an integer.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the value at the given index coerced to <code>boolean</code>, or <code>false</code> if the index is
+     * out of bounds. Otherwise, undefined.
+     * @throws IllegalArgumentException if the property could not be coerced into an integer.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * value cannot be coerced to <code>boolean</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public boolean getBoolean(ELContext context, Object base, Object property) {
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base != null && isGetValueDeclaredBy(ArrayELResolver.class)) {
+            if (base instanceof boolean[] && property instanceof Integer) {
+                context.setPropertyResolved(base, property);
+                boolean[] array = (boolean[]) base;
+                int index = ((Integer) property).intValue();
+                return index >= 0 && index < array.length ? array[index] : false;
+            }
+        }
+
+        return super.getBoolean(context, base, property);
+    }
+
+    /**
+     * If the base object is a Java language array, returns the value at the given index or the length of the array coerced to
+     * <code>int</code>. Elements of a <code>int[]</code> at an <code>Integer</code> index are obtained without
+     * boxing them. Otherwise the result is the same as that of {@link ELResolver#getInt}.
+     *
+     * @param context The context of this evaluation.
+     * @param base The array to analyze. Only bases that are Java language arrays are handled by this resolver.
+     * @param property The index of the value to be returned. Will be coerced into an integer.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the value at the given index or the length of the array coerced to <code>int</code>, or <code>0</code> if the index is
+     * out of bounds. Otherwise, undefined.
+     * @throws IllegalArgumentException if the property could not be coerced into an integer.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * value cannot be coerced to <code>int</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public int getInt(ELContext context, Object base, Object property) {
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base != null && isGetValueDeclaredBy(ArrayELResolver.class)) {
+            if (base instanceof int[] && property instanceof Integer) {
+                context.setPropertyResolved(base, property);
+                int[] array = (int[]) base;
+                int index = ((Integer) property).intValue();
+                return index >= 0 && index < array.length ? array[index] : 0;
+            }
+            if (LENGTH_PROPERTY_NAME.equals(property) && base.getClass().isArray()) {
+                context.setPropertyResolved(base, property);
+                return Array.getLength(base);
+            }
+        }
+
+        return super.getInt(context, base, property);
+    }
+
+    /**
+     * If the base object is a Java language array, returns the value at the given index or the length of the array coerced to
+     * <code>long</code>. Elements of a <code>long[]</code> at an <code>Integer</code> index are obtained without
+     * boxing them. Otherwise the result is the same as that of {@link ELResolver#getLong}.
+     *
+     * @param context The context of this evaluation.
+     * @param base The array to analyze. Only bases that are Java language arrays are handled by this resolver.
+     * @param property The index of the value to be returned. Will be coerced into an integer.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the value at the given index or the length of the array coerced to <code>long</code>, or <code>0</code> if the index is
+     * out of bounds. Otherwise, undefined.
+     * @throws IllegalArgumentException if the property could not be coerced into an integer.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * value cannot be coerced to <code>long</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public long getLong(ELContext context, Object base, Object property) {
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base != null && isGetValueDeclaredBy(ArrayELResolver.class)) {
+            if (base instanceof long[] && property instanceof Integer) {
+                context.setPropertyResolved(base, property);
+                long[] array = (long[]) base;
+                int index = ((Integer) property).intValue();
+                return index >= 0 && index < array.length ? array[index] : 0;
+            }
+            if (LENGTH_PROPERTY_NAME.equals(property) && base.getClass().isArray()) {
+                context.setPropertyResolved(base, property);
+                return Array.getLength(base);
+            }
+        }
+
+        return super.getLong(context, base, property);
+    }
+
+    /**
+     * If the base object is a Java language array, returns the value at the given index or the length of the array coerced to
+     * <code>double</code>. Elements of a <code>double[]</code> at an <code>Integer</code> index are obtained without
+     * boxing them. Otherwise the result is the same as that of {@link ELResolver#getDouble}.
+     *
+     * @param context The context of this evaluation.
+     * @param base The array to analyze. Only bases that are Java language arrays are handled by this resolver.
+     * @param property The index of the value to be returned. Will be coerced into an integer.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the value at the given index or the length of the array coerced to <code>double</code>, or <code>0</code> if the index is
+     * out of bounds. Otherwise, undefined.
+     * @throws IllegalArgumentException if the property could not be coerced into an integer.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * value cannot be coerced to <code>double</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public double getDouble(ELContext context, Object base, Object property) {
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base != null && isGetValueDeclaredBy(ArrayELResolver.class)) {
+            if (base instanceof double[] && property instanceof Integer) {
+                context.setPropertyResolved(base, property);
+                double[] array = (double[]) base;
+                int index = ((Integer) property).intValue();
+                return index >= 0 && index < array.length ? array[index] : 0;
+            }
+            if (LENGTH_PROPERTY_NAME.equals(property) && base.getClass().isArray()) {
+                context.setPropertyResolved(base, property);
+                return Array.getLength(base);
+            }
+        }
+
+        return super.getDouble(context, base, property);
     }
 
     /**
@@ -222,7 +442,7 @@ public class ArrayELResolver extends ELResolver {
             if (index < 0 || index >= Array.getLength(base)) {
                 throw new PropertyNotFoundException();
             }
-            Array.set(base, index, val);
+            ARRAY_ACCESSORS.get(base.getClass()).set(base, index, val);
         }
     }
 
@@ -296,11 +516,69 @@ public class ArrayELResolver extends ELResolver {
         return null;
     }
 
+    /**
+     * Returns the types of non-<code>null</code> base object for which this resolver may resolve a (base, property)
+     * pair or a (base, method) pair.
+     *
+     * <p>
+     * This resolver only handles bases that are arrays.
+     * </p>
+     *
+     * @return <code>Object[].class</code> and the array types for each primitive type
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Class<?>[] getBaseTypes() {
+        return new Class<?>[] { Object[].class, boolean[].class, byte[].class, char[].class, short[].class, int[].class,
+                long[].class, float[].class, double[].class };
+    }
+
+    /**
+     * If the base object is a Java language array, returns an accessor that reads the given element, or the length, of
+     * arrays of the same class as the base.
+     *
+     * @param context The context of this evaluation.
+     * @param base The array whose element or length is to be read. Only bases that are Java language arrays are handled
+     * by this resolver.
+     * @param property The index of the element to read or <code>"length"</code>. Will be coerced into an integer.
+     * @return An accessor for the element or length or <code>null</code> if the base is not an array or the property
+     * cannot be coerced into an integer
+     * @throws NullPointerException if context is <code>null</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public PropertyAccessor getPropertyAccessor(ELContext context, Object base, Object property) {
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base != null && base.getClass().isArray() && isGetValueDeclaredBy(ArrayELResolver.class)) {
+            if (LENGTH_PROPERTY_NAME.equals(property)) {
+                return new ArrayLengthAccessor(base.getClass());
+            }
+            int index;
+            try {
+                index = toInteger(property);
+            } catch (IllegalArgumentException e) {
+                // Leave getValue() to report the problem
+                return null;
+            }
+            return new ArrayElementAccessor(base.getClass(), property, index);
+        }
+
+        return null;
+    }
+
     private int toInteger(Object p) {
 
         if (p instanceof Integer) {
             return ((Integer) p).intValue();
         }
+        if (p instanceof Long) {
+            return ((Long) p).intValue();
+        }
         if (p instanceof Character) {
             return ((Character) p).charValue();
         }
@@ -317,4 +595,90 @@ public class ArrayELResolver extends ELResolver {
     }
 
     private boolean isReadOnly;
+
+
+    private static final class ArrayLengthAccessor extends PropertyAccessor {
+
+        ArrayLengthAccessor(Class<?> baseClass) {
+            super(baseClass, LENGTH_PROPERTY_NAME);
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base) {
+            context.setPropertyResolved(base, LENGTH_PROPERTY_NAME);
+            return Integer.valueOf(Array.getLength(base));
+        }
+    }
+
+
+    private static final class ArrayElementAccessor extends PropertyAccessor {
+
+        private final int index;
+        private final ArrayAccessor arrayAccessor;
+
+        ArrayElementAccessor(Class<?> baseClass, Object property, int index) {
+            super(baseClass, property);
+            this.index = index;
+            this.arrayAccessor = ARRAY_ACCESSORS.get(baseClass);
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base) {
+            context.setPropertyResolved(base, getProperty());
+            if (index >= 0 && index < Array.getLength(base)) {
+                return arrayAccessor.get(base, index);
+            }
+            return null;
+        }
+    }
+
+
+    /*
+     * Reads and writes the elements of arrays of a single class. Callers are responsible for the bounds and type checks
+     * required by the specification so the handles never throw for the values passed to them.
+     */
+    private static final class ArrayAccessor {
+
+        private final MethodHandle getter;
+        /*
+         * Null for arrays of primitives. The only values that pass the type check for such arrays are nulls which
+         * java.lang.reflect.Array rejects with the expected exception.
+         */
+        private final MethodHandle setter;
+
+        ArrayAccessor(Class<?> arrayClass) {
+            getter = MethodHandles.arrayElementGetter(arrayClass).asType(GETTER_TYPE);
+            if (arrayClass.getComponentType().isPrimitive()) {
+                setter = null;
+            } else {
+                setter = MethodHandles.arrayElementSetter(arrayClass).asType(SETTER_TYPE);
+            }
+        }
+
+        Object get(Object array, int index) {
+            try {
+                return (Object) getter.invokeExact(array, index);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                // Can't happen as array element getters don't throw checked exceptions
+                throw new ELException(t);
+            }
+        }
+
+        void set(Object array, int index, Object value) {
+            if (setter == null) {
+                Array.set(array, index, value);
+                return;
+            }
+            try {
+                setter.invokeExact(array, index, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                // Can't happen as array element setters don't throw checked exceptions
+                throw new ELException(t);
+            }
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2023 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -19,14 +19,15 @@
 package jakarta.el;
 
 import static jakarta.el.ELUtil.getExceptionMessageString;
+import static jakarta.el.ELUtil.getLazyExceptionMessage;
 
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.SoftReference;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Defines property resolution behavior on objects using the JavaBeans component architecture.
@@ -36,6 +37,12 @@ import java.util.concurrent.ConcurrentHashMap;
  * implementation provided by the JRE is used. If the {@code java.beans.*} package is not available, a built-in
  * stand-alone implementation is used that just provides getter/setter support (as everything else requires classes from
  * {@code java.beans.*}).
+ *
+ * <p>
+ * The stand-alone implementation normally introspects every property of a class when the first property of that class
+ * is resolved. If the system property {@code jakarta.el.BeanSupport.lazyIntrospection} is set to {@code true}, each
+ * property is instead introspected when it is first resolved which reduces the cost of the first access to classes with
+ * many properties.
  * 
  * <p>
  * This resolver handles base objects of any type, as long as the base is not <code>null</code>. It accepts any object
@@ -87,120 +94,181 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class BeanELResolver extends ELResolver {
 
-    static private class BPSoftReference extends SoftReference<BeanProperties> {
-        final Class<?> key;
-
-        BPSoftReference(Class<?> key, BeanProperties beanProperties, ReferenceQueue<BeanProperties> refQ) {
-            super(beanProperties, refQ);
-            this.key = key;
-        }
-    }
+    private boolean isReadOnly;
 
-    static private class SoftConcurrentHashMap extends ConcurrentHashMap<Class<?>, BeanProperties> {
+    private static final MethodType READ_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType WRITE_METHOD_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
 
-        private static final long serialVersionUID = -178867497897782229L;
-        private static final int CACHE_INIT_SIZE = 1024;
-        private ConcurrentHashMap<Class<?>, BPSoftReference> map = new ConcurrentHashMap<>(CACHE_INIT_SIZE);
-        private ReferenceQueue<BeanProperties> refQ = new ReferenceQueue<>();
+    /*
+     * Marks an accessor for which a MethodHandle could not be created.
+     */
+    private static final MethodHandle NO_METHOD_HANDLE = MethodHandles.zero(Object.class);
 
-        // Remove map entries that have been placed on the queue by GC.
-        private void cleanup() {
-            BPSoftReference BPRef = null;
-            while ((BPRef = (BPSoftReference) refQ.poll()) != null) {
-                map.remove(BPRef.key);
+    /*
+     * Defines a property for a bean.
+     *
+     * The accessible read and write methods are resolved on construction. The only mutable state is the lazily created
+     * MethodHandles, which are immutable and are safely published via volatile fields.
+     */
+    static final class BeanProperty {
+
+        private final Class<?> type;
+        private final Method readMethod;
+        private final Method writeMethod;
+        private final Method accessibleReadMethod;
+        private final Method accessibleWriteMethod;
+        private final Class<?> writeParameterType;
+        private final PrimitiveReadHandles primitiveReadHandles;
+        private volatile MethodHandle readHandle;
+        private volatile MethodHandle writeHandle;
+
+        BeanProperty(Class<?> baseClass, Class<?> type, Method readMethod, Method writeMethod) {
+            this.type = type;
+            this.readMethod = readMethod;
+            this.writeMethod = writeMethod;
+            this.accessibleReadMethod = ELUtil.getMethod(baseClass, readMethod);
+            this.accessibleWriteMethod = ELUtil.getMethod(baseClass, writeMethod);
+            if (accessibleWriteMethod == null) {
+                writeParameterType = null;
+            } else {
+                writeParameterType = accessibleWriteMethod.getParameterTypes()[0];
             }
+            this.primitiveReadHandles = PrimitiveReadHandles.of(accessibleReadMethod);
         }
 
-        @Override
-        public BeanProperties put(Class<?> key, BeanProperties value) {
-            cleanup();
-            BPSoftReference prev = map.put(key, new BPSoftReference(key, value, refQ));
-            return prev == null ? null : prev.get();
+        Class<?> getPropertyType() {
+            return this.type;
         }
 
-        @Override
-        public BeanProperties putIfAbsent(Class<?> key, BeanProperties value) {
-            cleanup();
-            BPSoftReference prev = map.putIfAbsent(key, new BPSoftReference(key, value, refQ));
-            return prev == null ? null : prev.get();
+        boolean isReadOnly() {
+            return accessibleWriteMethod == null;
         }
 
-        @Override
-        public BeanProperties get(Object key) {
-            cleanup();
-            BPSoftReference BPRef = map.get(key);
-            if (BPRef == null) {
-                return null;
-            }
-            if (BPRef.get() == null) {
-                // value has been garbage collected, remove entry in map
-                map.remove(key);
-                return null;
-            }
-            return BPRef.get();
+        /*
+         * Returns the read method as identified by introspection. It may not be accessible.
+         */
+        Method getReadMethod() {
+            return readMethod;
         }
-    }
-
-    private boolean isReadOnly;
 
-    private final SoftConcurrentHashMap properties = new SoftConcurrentHashMap();
-
-    /*
-     * Defines a property for a bean.
-     */
-    abstract static class BeanProperty {
+        /*
+         * Returns the write method as identified by introspection. It may not be accessible.
+         */
+        Method getWriteMethod() {
+            return writeMethod;
+        }
 
-        final private Class<?> baseClass;
-        final private Class<?> type;
-        private Method readMethod;
-        private Method writeMethod;
+        Method getAccessibleReadMethod() {
+            return accessibleReadMethod;
+        }
 
-        public BeanProperty(Class<?> baseClass, Class<?> type) {
-            this.baseClass = baseClass;
-            this.type = type;
+        Method getAccessibleWriteMethod() {
+            return accessibleWriteMethod;
         }
 
-        public Class<?> getPropertyType() {
-            return this.type;
+        /*
+         * Returns null if the property is not readable or is not of a primitive type that may be read without boxing.
+         */
+        PrimitiveReadHandles getPrimitiveReadHandles() {
+            return primitiveReadHandles;
         }
 
-        public boolean isReadOnly(Object base) {
-            return getWriteMethod(base) == null;
+        /*
+         * Reads the property using a MethodHandle adapted to (Object)Object. Exceptions thrown by the getter are wrapped
+         * in an InvocationTargetException so callers see the same exceptions as for Method.invoke().
+         */
+        Object read(Object base) throws IllegalAccessException, InvocationTargetException {
+            MethodHandle handle = readHandle;
+            if (handle == null) {
+                handle = toMethodHandle(accessibleReadMethod, READ_METHOD_TYPE);
+                readHandle = handle;
+            }
+            if (handle == NO_METHOD_HANDLE) {
+                return accessibleReadMethod.invoke(base);
+            }
+            try {
+                return (Object) handle.invokeExact(base);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
         }
 
-        public Method getReadMethod(Object base) {
-            if (readMethod == null) {
-                readMethod = ELUtil.getMethod(baseClass, base, getReadMethod());
+        /*
+         * Writes the property using a MethodHandle adapted to (Object,Object)void. Values that would need conversion (or
+         * that are of the wrong type) use Method.invoke() so that error handling is unchanged.
+         */
+        void write(Object base, Object value) throws IllegalAccessException, InvocationTargetException {
+            MethodHandle handle = writeHandle;
+            if (handle == null) {
+                handle = toMethodHandle(accessibleWriteMethod, WRITE_METHOD_TYPE);
+                writeHandle = handle;
+            }
+            if (handle == NO_METHOD_HANDLE || !ELUtil.isExactArgument(writeParameterType, value)) {
+                accessibleWriteMethod.invoke(base, value);
+                return;
+            }
+            try {
+                handle.invokeExact(base, value);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
             }
-            return readMethod;
         }
 
-        public Method getWriteMethod(Object base) {
-            if (writeMethod == null) {
-                writeMethod = ELUtil.getMethod(baseClass, base, getWriteMethod());
+        private static MethodHandle toMethodHandle(Method method, MethodType methodType) {
+            try {
+                // The method is public and declared by a public type (see ELUtil.getMethod())
+                return MethodHandles.publicLookup().unreflect(method).asType(methodType);
+            } catch (IllegalAccessException | WrongMethodTypeException e) {
+                // Fall back to Method.invoke()
+                return NO_METHOD_HANDLE;
             }
-            return writeMethod;
         }
-        
-        abstract Method getWriteMethod();
-        
-        abstract Method getReadMethod();
     }
 
     /*
      * Defines the properties for a bean.
+     *
+     * Instances are immutable. The properties are held in an open addressing hash table of property names and
+     * properties which is considerably more compact than a HashMap and, as all fields are final, is safely published
+     * without locking.
      */
-    abstract static class BeanProperties {
-
-        protected final Map<String, BeanProperty> propertyMap = new HashMap<>();
-        protected final Class<?> baseClass;
+    static final class BeanProperties {
+
+        private final String[] names;
+        private final BeanProperty[] properties;
+
+        BeanProperties(Map<String, BeanProperty> propertyMap) {
+            // Keep the load factor at or below 0.5 so probe sequences remain short
+            int capacity = Integer.highestOneBit(Math.max(propertyMap.size(), 1) * 2 - 1) << 1;
+            names = new String[capacity];
+            properties = new BeanProperty[capacity];
+            for (Map.Entry<String, BeanProperty> entry : propertyMap.entrySet()) {
+                String name = entry.getKey().intern();
+                int i = indexFor(name, capacity);
+                while (names[i] != null) {
+                    i = (i + 1) & (capacity - 1);
+                }
+                names[i] = name;
+                properties[i] = entry.getValue();
+            }
+        }
 
-        BeanProperties(Class<?> baseClass) {
-            this.baseClass = baseClass;
+        BeanProperty getBeanProperty(String property) {
+            int mask = names.length - 1;
+            int i = indexFor(property, names.length);
+            String name;
+            while ((name = names[i]) != null) {
+                if (name == property || name.equals(property)) {
+                    return properties[i];
+                }
+                i = (i + 1) & mask;
+            }
+            return null;
         }
 
-        public BeanProperty getBeanProperty(String property) {
-            return propertyMap.get(property);
+        private static int indexFor(String name, int capacity) {
+            int h = name.hashCode();
+            return (h ^ (h >>> 16)) & (capacity - 1);
         }
     }
 
@@ -263,7 +331,7 @@ public class BeanELResolver extends ELResolver {
         BeanProperty beanProperty = getBeanProperty(context, base, property);
         context.setPropertyResolved(true);
         
-        if (isReadOnly || beanProperty.isReadOnly(base)) {
+        if (isReadOnly || beanProperty.isReadOnly()) {
             return null;
         }
         
@@ -299,24 +367,246 @@ public class BeanELResolver extends ELResolver {
      */
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
+        Object value = lookupValue(context, base, property);
+        if (value == NOT_RESOLVED) {
+            return null;
+        }
+
+        context.setPropertyResolved(true);
+        return value;
+    }
+
+    /**
+     * If the base object is not <code>null</code>, returns the current value of the given property on this bean, as
+     * {@link #getValue} does, without using the <code>propertyResolved</code> property of the <code>ELContext</code>.
+     *
+     * @param context The context of this evaluation.
+     * @param base The bean on which to get the property.
+     * @param property The name of the property to get. Will be coerced to a <code>String</code>.
+     * @return The value of the given property or {@link #NOT_RESOLVED} if the base or property is <code>null</code>
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if <code>base</code> is not <code>null</code> and the specified property does not
+     * exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution. The thrown
+     * exception must be included as the cause property of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Object resolveValue(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(BeanELResolver.class)) {
+            return super.resolveValue(context, base, property);
+        }
+        return lookupValue(context, base, property);
+    }
+
+    private Object lookupValue(ELContext context, Object base, Object property) {
         if (context == null) {
             throw new NullPointerException();
         }
 
         if (base == null || property == null) {
-            return null;
+            return NOT_RESOLVED;
         }
 
-        Method method = getBeanProperty(context, base, property).getReadMethod(base);
-        if (method == null) {
+        BeanProperty beanProperty = getBeanProperty(context, base, property);
+        if (beanProperty.getAccessibleReadMethod() == null) {
             throw new PropertyNotFoundException(
-                    getExceptionMessageString(context, "propertyNotReadable", new Object[] { base.getClass().getName(), property.toString() }));
+                    getLazyExceptionMessage(context, "propertyNotReadable", new Object[] { base.getClass().getName(), property.toString() }));
+        }
+
+        Object value = read(base, beanProperty);
+        context.notifyPropertyResolved(base, property);
+        return value;
+    }
+
+    /**
+     * If the base object is not <code>null</code>, returns the current value of the given property on this bean coerced
+     * to <code>boolean</code>. If the getter returns a primitive value that does not need to be coerced, other than by a
+     * widening conversion, the value is obtained without boxing it. Otherwise the result is the same as that of
+     * {@link ELResolver#getBoolean}.
+     *
+     * @param context The context of this evaluation.
+     * @param base The bean on which to get the property.
+     * @param property The name of the property to get. Will be coerced to a <code>String</code>.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the value of the given property coerced to <code>boolean</code>. Otherwise, undefined.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if <code>base</code> is not <code>null</code> and the specified property does not
+     * exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * value cannot be coerced to <code>boolean</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public boolean getBoolean(ELContext context, Object base, Object property) {
+        PrimitiveReadHandles handles = getPrimitiveReadHandles(context, base, property);
+        MethodHandle handle = handles == null ? null : handles.getBooleanHandle();
+        if (handle == null) {
+            return super.getBoolean(context, base, property);
         }
 
-        Object value;
+        boolean value = PrimitiveReadHandles.readBoolean(handle, base);
+        context.setPropertyResolved(base, property);
+        return value;
+    }
+
+    /**
+     * If the base object is not <code>null</code>, returns the current value of the given property on this bean coerced
+     * to <code>int</code>. If the getter returns a primitive value that does not need to be coerced, other than by a
+     * widening conversion, the value is obtained without boxing it. Otherwise the result is the same as that of
+     * {@link ELResolver#getInt}.
+     *
+     * @param context The context of this evaluation.
+     * @param base The bean on which to get the property.
+     * @param property The name of the property to get. Will be coerced to a <code>String</code>.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the value of the given property coerced to <code>int</code>. Otherwise, undefined.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if <code>base</code> is not <code>null</code> and the specified property does not
+     * exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * value cannot be coerced to <code>int</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public int getInt(ELContext context, Object base, Object property) {
+        PrimitiveReadHandles handles = getPrimitiveReadHandles(context, base, property);
+        MethodHandle handle = handles == null ? null : handles.getIntHandle();
+        if (handle == null) {
+            return super.getInt(context, base, property);
+        }
+
+        int value = PrimitiveReadHandles.readInt(handle, base);
+        context.setPropertyResolved(base, property);
+        return value;
+    }
+
+    /**
+     * If the base object is not <code>null</code>, returns the current value of the given property on this bean coerced
+     * to <code>long</code>. If the getter returns a primitive value that does not need to be coerced, other than by a
+     * widening conversion, the value is obtained without boxing it. Otherwise the result is the same as that of
+     * {@link ELResolver#getLong}.
+     *
+     * @param context The context of this evaluation.
+     * @param base The bean on which to get the property.
+     * @param property The name of the property to get. Will be coerced to a <code>String</code>.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the value of the given property coerced to <code>long</code>. Otherwise, undefined.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if <code>base</code> is not <code>null</code> and the specified property does not
+     * exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * value cannot be coerced to <code>long</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public long getLong(ELContext context, Object base, Object property) {
+        PrimitiveReadHandles handles = getPrimitiveReadHandles(context, base, property);
+        MethodHandle handle = handles == null ? null : handles.getLongHandle();
+        if (handle == null) {
+            return super.getLong(context, base, property);
+        }
+
+        long value = PrimitiveReadHandles.readLong(handle, base);
+        context.setPropertyResolved(base, property);
+        return value;
+    }
+
+    /**
+     * If the base object is not <code>null</code>, returns the current value of the given property on this bean coerced
+     * to <code>double</code>. If the getter returns a primitive value that does not need to be coerced, other than by a
+     * widening conversion, the value is obtained without boxing it. Otherwise the result is the same as that of
+     * {@link ELResolver#getDouble}.
+     *
+     * @param context The context of this evaluation.
+     * @param base The bean on which to get the property.
+     * @param property The name of the property to get. Will be coerced to a <code>String</code>.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the value of the given property coerced to <code>double</code>. Otherwise, undefined.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if <code>base</code> is not <code>null</code> and the specified property does not
+     * exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * value cannot be coerced to <code>double</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public double getDouble(ELContext context, Object base, Object property) {
+        PrimitiveReadHandles handles = getPrimitiveReadHandles(context, base, property);
+        MethodHandle handle = handles == null ? null : handles.getDoubleHandle();
+        if (handle == null) {
+            return super.getDouble(context, base, property);
+        }
+
+        double value = PrimitiveReadHandles.readDouble(handle, base);
+        context.setPropertyResolved(base, property);
+        return value;
+    }
+
+    /**
+     * If the base object is not <code>null</code> and the property is a readable property of the base object, returns an
+     * accessor that reads the property from beans of the same class as the base.
+     *
+     * @param context The context of this evaluation.
+     * @param base The bean on which to read the property.
+     * @param property The name of the property to read. Will be coerced to a <code>String</code>.
+     * @return An accessor for the property or <code>null</code> if the base or property is <code>null</code> or the
+     * property is not a readable property of the base
+     * @throws NullPointerException if context is <code>null</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public PropertyAccessor getPropertyAccessor(ELContext context, Object base, Object property) {
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base == null || property == null || !isGetValueDeclaredBy(BeanELResolver.class)) {
+            return null;
+        }
+
+        BeanProperty beanProperty = BeanSupport.getInstance().getCachedBeanProperty(base.getClass(), property.toString());
+        if (beanProperty == null || beanProperty.getAccessibleReadMethod() == null) {
+            return null;
+        }
+
+        return new BeanPropertyAccessor(base.getClass(), property, beanProperty);
+    }
+
+    /*
+     * Returns the handles that read the property without boxing or null if the property must be read by getValue(),
+     * including when getValue() will report that the property is not readable.
+     */
+    private PrimitiveReadHandles getPrimitiveReadHandles(ELContext context, Object base, Object property) {
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base == null || property == null || !isGetValueDeclaredBy(BeanELResolver.class)) {
+            return null;
+        }
+
+        BeanProperty beanProperty = getBeanProperty(context, base, property);
+        if (beanProperty.getAccessibleReadMethod() == null) {
+            return null;
+        }
+
+        return beanProperty.getPrimitiveReadHandles();
+    }
+
+    private static Object read(Object base, BeanProperty beanProperty) {
         try {
-            value = method.invoke(base, new Object[0]);
-            context.setPropertyResolved(base, property);
+            return beanProperty.read(base);
         } catch (ELException ex) {
             throw ex;
         } catch (InvocationTargetException ite) {
@@ -324,8 +614,6 @@ public class BeanELResolver extends ELResolver {
         } catch (Exception ex) {
             throw new ELException(ex);
         }
-
-        return value;
     }
 
     /**
@@ -372,17 +660,17 @@ public class BeanELResolver extends ELResolver {
         }
 
         if (isReadOnly) {
-            throw new PropertyNotWritableException(getExceptionMessageString(context, "resolverNotwritable", new Object[] { base.getClass().getName() }));
+            throw new PropertyNotWritableException(getLazyExceptionMessage(context, "resolverNotwritable", new Object[] { base.getClass().getName() }));
         }
 
-        Method method = getBeanProperty(context, base, property).getWriteMethod(base);
-        if (method == null) {
+        BeanProperty beanProperty = getBeanProperty(context, base, property);
+        if (beanProperty.getAccessibleWriteMethod() == null) {
             throw new PropertyNotWritableException(
-                    getExceptionMessageString(context, "propertyNotWritable", new Object[] { base.getClass().getName(), property.toString() }));
+                    getLazyExceptionMessage(context, "propertyNotWritable", new Object[] { base.getClass().getName(), property.toString() }));
         }
 
         try {
-            method.invoke(base, new Object[] { val });
+            beanProperty.write(base, val);
             context.setPropertyResolved(base, property);
         } catch (ELException ex) {
             throw ex;
@@ -507,7 +795,7 @@ public class BeanELResolver extends ELResolver {
             return true;
         }
 
-        return getBeanProperty(context, base, property).isReadOnly(base);
+        return getBeanProperty(context, base, property).isReadOnly();
     }
 
     /**
@@ -532,19 +820,47 @@ public class BeanELResolver extends ELResolver {
         return Object.class;
     }
 
+    /**
+     * Returns the types of non-<code>null</code> base object for which this resolver may resolve a (base, property)
+     * pair or a (base, method) pair.
+     *
+     * <p>
+     * This resolver handles any non-<code>null</code> base.
+     * </p>
+     *
+     * @return <code>Object.class</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Class<?>[] getBaseTypes() {
+        return new Class<?>[] { Object.class };
+    }
+
+    private static final class BeanPropertyAccessor extends PropertyAccessor {
+
+        private final BeanProperty beanProperty;
+
+        BeanPropertyAccessor(Class<?> baseClass, Object property, BeanProperty beanProperty) {
+            super(baseClass, property);
+            this.beanProperty = beanProperty;
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base) {
+            Object value = read(base, beanProperty);
+            context.setPropertyResolved(base, getProperty());
+            return value;
+        }
+    }
+
     private BeanProperty getBeanProperty(ELContext context, Object base, Object prop) {
         String property = prop.toString();
         Class<?> baseClass = base.getClass();
 
-        BeanProperties beanProperties = properties.get(baseClass);
-        if (beanProperties == null) {
-            beanProperties = BeanSupport.getInstance().getBeanProperties(baseClass);
-            properties.put(baseClass, beanProperties);
-        }
-
-        BeanProperty beanProperty = beanProperties.getBeanProperty(property);
+        BeanProperty beanProperty = BeanSupport.getInstance().getCachedBeanProperty(baseClass, property);
         if (beanProperty == null) {
-            throw new PropertyNotFoundException(getExceptionMessageString(context, "propertyNotFound", new Object[] { baseClass.getName(), property }));
+            throw new PropertyNotFoundException(getLazyExceptionMessage(context, "propertyNotFound", new Object[] { baseClass.getName(), property }));
         }
 
         return beanProperty;
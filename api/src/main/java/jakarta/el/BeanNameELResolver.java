@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates and others.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -74,18 +74,57 @@ public class BeanNameELResolver extends ELResolver {
      */
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
+        Object value = lookupValue(context, base, property, true);
+        if (value == NOT_RESOLVED) {
+            return null;
+        }
+        return value;
+    }
+
+    /**
+     * If the base object is <code>null</code> and the property is a name that is resolvable by the BeanNameResolver,
+     * returns the value resolved by the BeanNameResolver, as {@link #getValue} does, without using the
+     * <code>propertyResolved</code> property of the <code>ELContext</code>.
+     *
+     * @param context The context of this evaluation.
+     * @param base <code>null</code>
+     * @param property The name of the bean.
+     * @return The value of the bean with the given name or {@link #NOT_RESOLVED} if the name is not resolved by the
+     * BeanNameResolver
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution. The thrown
+     * exception must be included as the cause property of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Object resolveValue(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(BeanNameELResolver.class)) {
+            return super.resolveValue(context, base, property);
+        }
+        return lookupValue(context, base, property, false);
+    }
+
+    /*
+     * With resolve set the property is resolved before the bean is obtained from the BeanNameResolver.
+     */
+    private Object lookupValue(ELContext context, Object base, Object property, boolean resolve) {
         if (context == null) {
             throw new NullPointerException();
         }
 
         if (base == null && property instanceof String) {
             if (beanNameResolver.isNameResolved((String) property)) {
-                context.setPropertyResolved(base, property);
+                if (resolve) {
+                    context.setPropertyResolved(base, property);
+                } else {
+                    context.notifyPropertyResolved(base, property);
+                }
                 return beanNameResolver.getBean((String) property);
             }
         }
 
-        return null;
+        return NOT_RESOLVED;
     }
 
     /**
@@ -212,4 +251,21 @@ public class BeanNameELResolver extends ELResolver {
     public Class<?> getCommonPropertyType(ELContext context, Object base) {
         return String.class;
     }
+
+    /**
+     * Returns the types of non-<code>null</code> base object for which this resolver may resolve a (base, property)
+     * pair or a (base, method) pair.
+     *
+     * <p>
+     * This resolver only handles a <code>null</code> base.
+     * </p>
+     *
+     * @return an empty array
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Class<?>[] getBaseTypes() {
+        return new Class<?>[0];
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2023, 2026 Contributors to the Eclipse Foundation
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -15,7 +15,11 @@
  */
 package jakarta.el;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import jakarta.el.BeanELResolver.BeanProperties;
+import jakarta.el.BeanELResolver.BeanProperty;
 
 /*
  * Provides an abstraction so the BeanELResolver can obtain JavaBeans specification support via different
@@ -64,5 +68,102 @@ abstract class BeanSupport {
         return beanSupport;
     }
 
+    /*
+     * Introspection results are cached per class. ClassValue allows classes (and their class loaders) to be unloaded while
+     * ensuring cached results are not discarded en masse under memory pressure, which would trigger re-introspection of
+     * every class at once. Each class has a single holder so concurrent first requests for a class only introspect it
+     * once.
+     */
+    private final ClassValue<BeanPropertiesHolder> beanPropertiesCache = new ClassValue<>() {
+        @Override
+        protected BeanPropertiesHolder computeValue(Class<?> type) {
+            return new BeanPropertiesHolder(type);
+        }
+    };
+
+    final BeanProperties getCachedBeanProperties(Class<?> type) {
+        return beanPropertiesCache.get(type).get();
+    }
+
+    /*
+     * Returns the named property of the given type, or null if there is no such property. If lazy introspection is
+     * enabled and the type has not already been fully introspected, only the named property is introspected.
+     */
+    final BeanProperty getCachedBeanProperty(Class<?> type, String name) {
+        return beanPropertiesCache.get(type).getBeanProperty(name);
+    }
+
     abstract BeanProperties getBeanProperties(Class<?> type);
+
+    /*
+     * Implementations that can introspect a single property more cheaply than the whole type should return true and
+     * override getBeanProperty(Class, String).
+     */
+    boolean isLazyIntrospection() {
+        return false;
+    }
+
+    /*
+     * Introspects a single property of the given type. Returns null if there is no such property. The default
+     * implementation introspects the whole type.
+     */
+    BeanProperty getBeanProperty(Class<?> type, String name) {
+        return getBeanProperties(type).getBeanProperty(name);
+    }
+
+
+    private final class BeanPropertiesHolder {
+
+        /*
+         * Limits the memory used if expressions refer to many names that are not properties of the type. Once the limit
+         * is reached further misses are not recorded but remain correct.
+         */
+        private static final int MAX_NOT_A_PROPERTY = 1024;
+
+        private final Class<?> type;
+        private volatile BeanProperties beanProperties;
+        /*
+         * The properties introspected individually, if lazy introspection is enabled. Properties that do not exist are
+         * recorded with the holder itself as the value.
+         */
+        private final Map<String, Object> lazyProperties;
+
+        BeanPropertiesHolder(Class<?> type) {
+            this.type = type;
+            this.lazyProperties = isLazyIntrospection() ? new ConcurrentHashMap<>() : null;
+        }
+
+        BeanProperty getBeanProperty(String name) {
+            BeanProperties result = beanProperties;
+            if (result != null || lazyProperties == null) {
+                return get().getBeanProperty(name);
+            }
+
+            Object property = lazyProperties.get(name);
+            if (property == null) {
+                property = BeanSupport.this.getBeanProperty(type, name);
+                if (property == null) {
+                    property = this;
+                }
+                if (property != this || lazyProperties.size() < MAX_NOT_A_PROPERTY) {
+                    lazyProperties.putIfAbsent(name, property);
+                }
+            }
+            return property == this ? null : (BeanProperty) property;
+        }
+
+        BeanProperties get() {
+            BeanProperties result = beanProperties;
+            if (result == null) {
+                synchronized (this) {
+                    result = beanProperties;
+                    if (result == null) {
+                        result = getBeanProperties(type);
+                        beanProperties = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
 }
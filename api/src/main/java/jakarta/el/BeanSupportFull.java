@@ -19,7 +19,8 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 
 import jakarta.el.BeanELResolver.BeanProperties;
 import jakarta.el.BeanELResolver.BeanProperty;
@@ -28,42 +29,16 @@ class BeanSupportFull extends BeanSupport {
 
     @Override
     BeanProperties getBeanProperties(Class<?> type) {
-        return new BeanPropertiesFull(type);
-    }
-
-    static final class BeanPropertiesFull extends BeanProperties {
-
-        BeanPropertiesFull(Class<?> baseClass) throws ELException {
-            super(baseClass);
-            try {
-                BeanInfo info = Introspector.getBeanInfo(this.baseClass);
-                PropertyDescriptor[] pds = info.getPropertyDescriptors();
-                for (PropertyDescriptor pd : pds) {
-                    this.propertyMap.put(pd.getName(), new BeanPropertyFull(baseClass, pd));
-                }
-            } catch (IntrospectionException ie) {
-                throw new ELException(ie);
+        try {
+            BeanInfo info = Introspector.getBeanInfo(type);
+            PropertyDescriptor[] pds = info.getPropertyDescriptors();
+            Map<String, BeanProperty> propertyMap = new HashMap<>();
+            for (PropertyDescriptor pd : pds) {
+                propertyMap.put(pd.getName(), new BeanProperty(type, pd.getPropertyType(), pd.getReadMethod(), pd.getWriteMethod()));
             }
-        }
-    }
-
-    static final class BeanPropertyFull extends BeanProperty {
-
-        private final PropertyDescriptor descriptor;
-
-        BeanPropertyFull(Class<?> owner, PropertyDescriptor descriptor) {
-            super(owner, descriptor.getPropertyType());
-            this.descriptor = descriptor;
-        }
-
-        @Override
-        Method getWriteMethod() {
-            return descriptor.getWriteMethod();
-        }
-
-        @Override
-        Method getReadMethod() {
-            return descriptor.getReadMethod();
+            return new BeanProperties(propertyMap);
+        } catch (IntrospectionException ie) {
+            throw new ELException(ie);
         }
     }
 }
@@ -41,44 +41,109 @@ class BeanSupportStandalone extends BeanSupport {
     private static final Comparator<Method> WRITE_METHOD_COMPARATOR =
             Comparator.comparing(m -> m.getParameterTypes()[0].getName());
 
+    /*
+     * Only intended to be configured via a system property. When enabled, each property is introspected when it is first
+     * used rather than introspecting every property of a class at once.
+     */
+    private final boolean lazyIntrospection = Boolean.getBoolean("jakarta.el.BeanSupport.lazyIntrospection");
+
+    /*
+     * Used when lazy introspection is enabled so that the public methods of a class are only obtained and scanned once,
+     * however many of its properties are introspected.
+     */
+    private final ClassValue<Map<String, List<Method>>> accessorMethodsCache = new ClassValue<>() {
+        @Override
+        protected Map<String, List<Method>> computeValue(Class<?> type) {
+            return getAccessorMethods(type);
+        }
+    };
+
     @Override
     BeanProperties getBeanProperties(Class<?> type) {
-        return new BeanPropertiesStandalone(type);
+        PropertyDescriptor[] pds = getPropertyDescriptors(type);
+        Map<String, BeanProperty> propertyMap = new HashMap<>();
+        for (PropertyDescriptor pd : pds) {
+            propertyMap.put(pd.getName(), new BeanProperty(type, pd.getType(), pd.getReadMethod(), pd.getWriteMethod()));
+        }
+        return new BeanProperties(propertyMap);
+    }
+
+    @Override
+    boolean isLazyIntrospection() {
+        return lazyIntrospection;
+    }
+
+    @Override
+    BeanProperty getBeanProperty(Class<?> type, String name) {
+        List<Method> methods = accessorMethodsCache.get(type).get(name);
+        if (methods == null) {
+            return null;
+        }
+        PropertyDescriptor pd = createPropertyDescriptor(name, methods);
+        return new BeanProperty(type, pd.getType(), pd.getReadMethod(), pd.getWriteMethod());
     }
 
 
     private static PropertyDescriptor[] getPropertyDescriptors(Class<?> baseClass) {
-        Map<String, PropertyDescriptor> pds = new HashMap<>();
-        Method[] methods = baseClass.getMethods();
-        for (Method method : methods) {
-            if (!Modifier.isStatic(method.getModifiers())) {
-                String methodName = method.getName();
-                if (methodName.startsWith("is")) {
-                    if (method.getParameterCount() == 0 && method.getReturnType() == boolean.class) {
-                        String propertyName = getPropertyName(methodName.substring(2));
-                        PropertyDescriptor pd = pds.computeIfAbsent(propertyName, k -> new PropertyDescriptor());
-                        pd.setName(propertyName);
-                        pd.setReadMethodIs(method);
-                    }
-                } else if (methodName.startsWith("get")) {
-                    if (method.getParameterCount() == 0) {
-                        String propertyName = getPropertyName(methodName.substring(3));
-                        PropertyDescriptor pd = pds.computeIfAbsent(propertyName, k -> new PropertyDescriptor());
-                        pd.setName(propertyName);
-                        pd.setReadMethod(method);
-                    }
-                } else if (methodName.startsWith("set")) {
-                    if (method.getParameterCount() == 1 && method.getReturnType() == void.class) {
-                        String propertyName = getPropertyName(methodName.substring(3));
-                        PropertyDescriptor pd = pds.computeIfAbsent(propertyName, k -> new PropertyDescriptor());
-                        pd.setName(propertyName);
-                        pd.addWriteMethod(method);
-                    }
+        Map<String, List<Method>> accessorMethods = getAccessorMethods(baseClass);
+        List<PropertyDescriptor> pds = new ArrayList<>(accessorMethods.size());
+        for (Map.Entry<String, List<Method>> entry : accessorMethods.entrySet()) {
+            pds.add(createPropertyDescriptor(entry.getKey(), entry.getValue()));
+        }
+        return pds.toArray(new PropertyDescriptor[0]);
+    }
 
+
+    /*
+     * Returns the getter and setter methods of the class grouped by property name.
+     */
+    private static Map<String, List<Method>> getAccessorMethods(Class<?> baseClass) {
+        Map<String, List<Method>> accessorMethods = new HashMap<>();
+        for (Method method : baseClass.getMethods()) {
+            int prefixLength = getPrefixLength(method);
+            if (prefixLength > 0) {
+                String propertyName = getPropertyName(method.getName().substring(prefixLength));
+                if (propertyName != null) {
+                    accessorMethods.computeIfAbsent(propertyName, k -> new ArrayList<>(2)).add(method);
                 }
             }
         }
-        return pds.values().toArray(new PropertyDescriptor[0]);
+        return accessorMethods;
+    }
+
+
+    private static PropertyDescriptor createPropertyDescriptor(String name, List<Method> methods) {
+        PropertyDescriptor pd = new PropertyDescriptor();
+        pd.setName(name);
+        for (Method method : methods) {
+            pd.addMethod(method);
+        }
+        return pd;
+    }
+
+
+    /*
+     * Returns the length of the prefix of the method name if the method is a getter or setter, otherwise zero.
+     */
+    private static int getPrefixLength(Method method) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            return 0;
+        }
+        String methodName = method.getName();
+        if (methodName.startsWith("is")) {
+            if (method.getParameterCount() == 0 && method.getReturnType() == boolean.class) {
+                return 2;
+            }
+        } else if (methodName.startsWith("get")) {
+            if (method.getParameterCount() == 0) {
+                return 3;
+            }
+        } else if (methodName.startsWith("set")) {
+            if (method.getParameterCount() == 1 && method.getReturnType() == void.class) {
+                return 3;
+            }
+        }
+        return 0;
     }
 
 
@@ -160,40 +225,19 @@ class BeanSupportStandalone extends BeanSupport {
         void addWriteMethod(Method writeMethod) {
             this.writeMethods.add(writeMethod);
         }
-    }
-
 
-    static final class BeanPropertiesStandalone extends BeanProperties {
-
-        BeanPropertiesStandalone(Class<?> baseClass) throws ELException {
-            super(baseClass);
-            PropertyDescriptor[] pds = getPropertyDescriptors(this.baseClass);
-            for (PropertyDescriptor pd : pds) {
-                this.propertyMap.put(pd.getName(), new BeanPropertyStandalone(baseClass, pd));
+        /*
+         * Adds a method for which getPrefixLength() is non-zero.
+         */
+        void addMethod(Method method) {
+            String methodName = method.getName();
+            if (methodName.startsWith("is")) {
+                setReadMethodIs(method);
+            } else if (methodName.startsWith("get")) {
+                setReadMethod(method);
+            } else {
+                addWriteMethod(method);
             }
         }
     }
-
-
-    static final class BeanPropertyStandalone extends BeanProperty {
-
-        private final Method readMethod;
-        private final Method writeMethod;
-
-        BeanPropertyStandalone(Class<?> owner, PropertyDescriptor pd) {
-            super(owner, pd.getType());
-            readMethod = pd.getReadMethod();
-            writeMethod = pd.getWriteMethod();
-        }
-
-        @Override
-        Method getReadMethod() {
-            return readMethod;
-        }
-
-        @Override
-        Method getWriteMethod() {
-            return writeMethod;
-        }
-    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2023 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -18,6 +18,15 @@
 
 package jakarta.el;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Maintains an ordered composite list of child <code>ELResolver</code>s.
  *
@@ -47,6 +56,13 @@ package jakarta.el;
  * all child <code>ELResolver</code>s for this method.
  * </p>
  *
+ * <p>
+ * Optionally, a <code>CompositeELResolver</code> may use a dispatch plan. When enabled, for each class of
+ * non-<code>null</code> base object the composite determines, once, which component resolvers may handle that class
+ * using {@link ELResolver#getBaseTypes()}, and then only consults those resolvers, in the order in which they were
+ * added, for bases of that class. See {@link #setDispatchPlanEnabled(boolean)}.
+ * </p>
+ *
  * @see ELContext
  * @see ELResolver
  * @since Jakarta Server Pages 2.1
@@ -54,8 +70,8 @@ package jakarta.el;
 public class CompositeELResolver extends ELResolver {
 
     public CompositeELResolver() {
-        this.size = 0;
-        this.elResolvers = new ELResolver[16];
+        this.elResolvers = new ELResolver[0];
+        this.baseTypes = new Class<?>[0][];
     }
 
     /**
@@ -73,13 +89,64 @@ public class CompositeELResolver extends ELResolver {
             throw new NullPointerException();
         }
 
-        if (size >= elResolvers.length) {
-            ELResolver[] newResolvers = new ELResolver[size * 2];
-            System.arraycopy(elResolvers, 0, newResolvers, 0, size);
-            elResolvers = newResolvers;
+        // Resolvers are rarely added so the array is kept at the exact size which simplifies iterating over it
+        ELResolver[] newResolvers = Arrays.copyOf(elResolvers, elResolvers.length + 1);
+        newResolvers[elResolvers.length] = elResolver;
+        Class<?>[][] newBaseTypes = Arrays.copyOf(baseTypes, baseTypes.length + 1);
+        newBaseTypes[baseTypes.length] = elResolver.getBaseTypes();
+        baseTypes = newBaseTypes;
+        elResolvers = newResolvers;
+
+        if (dispatchPlan != null) {
+            // The existing plan is no longer valid
+            dispatchPlan = new DispatchPlan();
         }
+    }
 
-        elResolvers[size++] = elResolver;
+    /**
+     * Enables or disables the use of a dispatch plan by this composite resolver.
+     *
+     * <p>
+     * When enabled, the {@link #getValue}, {@link #getType}, {@link #setValue}, {@link #isReadOnly} and {@link #invoke}
+     * methods only consult, for a non-<code>null</code> base, the component resolvers that may handle the class of that
+     * base as indicated by {@link ELResolver#getBaseTypes()}. Component resolvers are still consulted in the order in
+     * which they were added so, provided every component resolver accurately reports the base types it handles, the
+     * result is the same as when the dispatch plan is disabled. The plan for each class of base is calculated on first
+     * use and is discarded when a further component resolver is added. The plans of a limited number of classes are
+     * retained. Custom component resolvers, including
+     * sub-classes of the standard resolvers, that handle additional types of base must report them via
+     * {@link ELResolver#getBaseTypes()}.
+     * </p>
+     *
+     * <p>
+     * The dispatch plan is disabled by default.
+     * </p>
+     *
+     * @param enabled <code>true</code> to enable the dispatch plan, <code>false</code> to disable it
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public void setDispatchPlanEnabled(boolean enabled) {
+        if (enabled) {
+            if (dispatchPlan == null) {
+                dispatchPlan = new DispatchPlan();
+            }
+        } else {
+            dispatchPlan = null;
+        }
+    }
+
+    /**
+     * Returns whether this composite resolver uses a dispatch plan.
+     *
+     * @return <code>true</code> if the dispatch plan is enabled, otherwise <code>false</code>
+     *
+     * @see #setDispatchPlanEnabled(boolean)
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public boolean isDispatchPlanEnabled() {
+        return dispatchPlan != null;
     }
 
     /**
@@ -106,6 +173,10 @@ public class CompositeELResolver extends ELResolver {
      * </ol>
      *
      * <p>
+     * The component resolvers are consulted using {@link #resolveValue}, which produces the same result as the steps
+     * above.
+     *
+     * <p>
      * If none of the component resolvers were able to perform this operation, the value <code>null</code> is returned and
      * the <code>propertyResolved</code> flag remains set to <code>false</code>.
      *
@@ -128,15 +199,218 @@ public class CompositeELResolver extends ELResolver {
     public Object getValue(ELContext context, Object base, Object property) {
         context.setPropertyResolved(false);
 
-        Object value = null;
-        for (int i = 0; i < size; i++) {
-            value = elResolvers[i].getValue(context, base, property);
+        Object value = resolveComponentValue(context, base, property);
+        if (value == NOT_RESOLVED) {
+            return null;
+        }
+
+        context.setPropertyResolved(true);
+        return value;
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given <code>base</code> object by querying all
+     * component resolvers, returning {@link #NOT_RESOLVED} if none of them handles the given (base, property) pair.
+     *
+     * <p>
+     * The {@link #resolveValue} method of each component resolver is called, in the order in which they were added,
+     * until one of them returns a value other than {@link #NOT_RESOLVED}. That value is returned by this method.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned, or <code>null</code> to resolve a top-level
+     * variable.
+     * @param property The property or variable to be resolved.
+     * @return The result of the variable or property resolution or {@link #NOT_RESOLVED} if no component resolver handles
+     * the given (base, property) pair
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair is handled by this <code>ELResolver</code> but
+     * the specified variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution. The thrown
+     * exception must be included as the cause property of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Object resolveValue(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(CompositeELResolver.class)) {
+            return super.resolveValue(context, base, property);
+        }
+        return resolveComponentValue(context, base, property);
+    }
+
+    private Object resolveComponentValue(ELContext context, Object base, Object property) {
+        ELResolver[] resolvers = getResolvers(base);
+        for (int i = 0; i < resolvers.length; i++) {
+            Object value = resolvers[i].resolveValue(context, base, property);
+            if (value != NOT_RESOLVED) {
+                context.notifyPropertyResolvedBy(base, property, resolvers[i]);
+                return value;
+            }
+        }
+
+        return NOT_RESOLVED;
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given <code>base</code> object by querying all
+     * component resolvers and returns the result coerced to <code>boolean</code>.
+     *
+     * <p>
+     * The component resolvers are consulted in the same way as for {@link #getValue} except that the
+     * <code>getBoolean()</code> method of each component resolver is called.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned, or <code>null</code> to resolve a top-level
+     * variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the result of the variable or property resolution coerced to <code>boolean</code>; otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair is handled by this <code>ELResolver</code> but
+     * the specified variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * result cannot be coerced to <code>boolean</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public boolean getBoolean(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(CompositeELResolver.class)) {
+            return super.getBoolean(context, base, property);
+        }
+
+        return getPrimitive(context, base, property, boolean.class) != 0;
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given <code>base</code> object by querying all
+     * component resolvers and returns the result coerced to <code>int</code>.
+     *
+     * <p>
+     * The component resolvers are consulted in the same way as for {@link #getValue} except that the
+     * <code>getInt()</code> method of each component resolver is called.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned, or <code>null</code> to resolve a top-level
+     * variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the result of the variable or property resolution coerced to <code>int</code>; otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair is handled by this <code>ELResolver</code> but
+     * the specified variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * result cannot be coerced to <code>int</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public int getInt(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(CompositeELResolver.class)) {
+            return super.getInt(context, base, property);
+        }
+
+        return (int) getPrimitive(context, base, property, int.class);
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given <code>base</code> object by querying all
+     * component resolvers and returns the result coerced to <code>long</code>.
+     *
+     * <p>
+     * The component resolvers are consulted in the same way as for {@link #getValue} except that the
+     * <code>getLong()</code> method of each component resolver is called.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned, or <code>null</code> to resolve a top-level
+     * variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the result of the variable or property resolution coerced to <code>long</code>; otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair is handled by this <code>ELResolver</code> but
+     * the specified variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * result cannot be coerced to <code>long</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public long getLong(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(CompositeELResolver.class)) {
+            return super.getLong(context, base, property);
+        }
+
+        return getPrimitive(context, base, property, long.class);
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given <code>base</code> object by querying all
+     * component resolvers and returns the result coerced to <code>double</code>.
+     *
+     * <p>
+     * The component resolvers are consulted in the same way as for {@link #getValue} except that the
+     * <code>getDouble()</code> method of each component resolver is called.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned, or <code>null</code> to resolve a top-level
+     * variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the result of the variable or property resolution coerced to <code>double</code>; otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair is handled by this <code>ELResolver</code> but
+     * the specified variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * result cannot be coerced to <code>double</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public double getDouble(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(CompositeELResolver.class)) {
+            return super.getDouble(context, base, property);
+        }
+
+        return Double.longBitsToDouble(getPrimitive(context, base, property, double.class));
+    }
+
+    /*
+     * Consults the component resolvers using the getter for the given primitive type. The result is returned as a long
+     * so that a single loop serves every type without boxing: booleans as 0 or 1 and doubles as their raw bits.
+     */
+    private long getPrimitive(ELContext context, Object base, Object property, Class<?> primitiveType) {
+        context.setPropertyResolved(false);
+
+        ELResolver[] resolvers = getResolvers(base);
+        for (int i = 0; i < resolvers.length; i++) {
+            long value;
+            if (primitiveType == boolean.class) {
+                value = resolvers[i].getBoolean(context, base, property) ? 1 : 0;
+            } else if (primitiveType == int.class) {
+                value = resolvers[i].getInt(context, base, property);
+            } else if (primitiveType == long.class) {
+                value = resolvers[i].getLong(context, base, property);
+            } else {
+                value = Double.doubleToRawLongBits(resolvers[i].getDouble(context, base, property));
+            }
             if (context.isPropertyResolved()) {
+                context.notifyPropertyResolvedBy(base, property, resolvers[i]);
                 return value;
             }
         }
 
-        return null;
+        // Zero is also the raw bits of 0.0
+        return 0;
     }
 
     /**
@@ -191,9 +465,11 @@ public class CompositeELResolver extends ELResolver {
         context.setPropertyResolved(false);
 
         Object value;
-        for (int i = 0; i < size; i++) {
-            value = elResolvers[i].invoke(context, base, method, paramTypes, params);
+        ELResolver[] resolvers = getResolvers(base);
+        for (int i = 0; i < resolvers.length; i++) {
+            value = resolvers[i].invoke(context, base, method, paramTypes, params);
             if (context.isPropertyResolved()) {
+                context.notifyPropertyResolvedBy(base, method, resolvers[i]);
                 return value;
             }
         }
@@ -255,9 +531,11 @@ public class CompositeELResolver extends ELResolver {
         context.setPropertyResolved(false);
 
         Class<?> type;
-        for (int i = 0; i < size; i++) {
-            type = elResolvers[i].getType(context, base, property);
+        ELResolver[] resolvers = getResolvers(base);
+        for (int i = 0; i < resolvers.length; i++) {
+            type = resolvers[i].getType(context, base, property);
             if (context.isPropertyResolved()) {
+                context.notifyPropertyResolvedBy(base, property, resolvers[i]);
                 return type;
             }
         }
@@ -310,9 +588,11 @@ public class CompositeELResolver extends ELResolver {
     public void setValue(ELContext context, Object base, Object property, Object val) {
         context.setPropertyResolved(false);
 
-        for (int i = 0; i < size; i++) {
-            elResolvers[i].setValue(context, base, property, val);
+        ELResolver[] resolvers = getResolvers(base);
+        for (int i = 0; i < resolvers.length; i++) {
+            resolvers[i].setValue(context, base, property, val);
             if (context.isPropertyResolved()) {
+                context.notifyPropertyResolvedBy(base, property, resolvers[i]);
                 return;
             }
         }
@@ -370,9 +650,11 @@ public class CompositeELResolver extends ELResolver {
         context.setPropertyResolved(false);
 
         boolean readOnly;
-        for (int i = 0; i < size; i++) {
-            readOnly = elResolvers[i].isReadOnly(context, base, property);
+        ELResolver[] resolvers = getResolvers(base);
+        for (int i = 0; i < resolvers.length; i++) {
+            readOnly = resolvers[i].isReadOnly(context, base, property);
             if (context.isPropertyResolved()) {
+                context.notifyPropertyResolvedBy(base, property, resolvers[i]);
                 return readOnly;
             }
         }
@@ -401,7 +683,7 @@ public class CompositeELResolver extends ELResolver {
     @Override
     public Class<?> getCommonPropertyType(ELContext context, Object base) {
         Class<?> commonPropertyType = null;
-        for (int i = 0; i < size; i++) {
+        for (int i = 0; i < elResolvers.length; i++) {
 
             Class<?> type = elResolvers[i].getCommonPropertyType(context, base);
             if (type == null) {
@@ -442,7 +724,7 @@ public class CompositeELResolver extends ELResolver {
         context.setPropertyResolved(false);
 
         T value = null;
-        for (int i = 0; i < size; i++) {
+        for (int i = 0; i < elResolvers.length; i++) {
             value = elResolvers[i].convertToType(context, obj, targetType);
             if (context.isPropertyResolved()) {
                 return value;
@@ -452,6 +734,261 @@ public class CompositeELResolver extends ELResolver {
         return null;
     }
 
+    /**
+     * Returns the types of non-<code>null</code> base object for which any of the component resolvers may resolve a
+     * (base, property) pair or a (base, method) pair.
+     *
+     * @return The combined base types of the component resolvers or <code>null</code> if any component resolver may
+     * handle a base of any type
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Class<?>[] getBaseTypes() {
+        List<Class<?>> baseTypes = new ArrayList<>();
+        for (int i = 0; i < elResolvers.length; i++) {
+            Class<?>[] types = getBaseTypes(i);
+            if (types == null) {
+                return null;
+            }
+            for (Class<?> type : types) {
+                if (!baseTypes.contains(type)) {
+                    baseTypes.add(type);
+                }
+            }
+        }
+        return baseTypes.toArray(new Class<?>[0]);
+    }
+
+    /**
+     * Returns a reusable accessor for the given (base, property) pair obtained from the component resolvers.
+     *
+     * <p>
+     * The component resolvers that may handle the class of the base, as indicated by {@link ELResolver#getBaseTypes()},
+     * are considered in the order in which they were added. The accessor provided by the first such resolver is returned.
+     * If a resolver that reports its base types does not provide an accessor, <code>null</code> is returned as a resolver
+     * consulted earlier than the one that resolves the property cannot be skipped. A resolver that may handle a base of
+     * any type and does not provide an accessor, such as the resolver supporting the collection operations, only prevents
+     * linking if it resolves the given (base, property) pair. Otherwise it is consulted by the returned accessor before
+     * the accessor of the later resolver is used. The returned accessor notifies listeners that the property was resolved
+     * by the component resolver in the same way as {@link #getValue}.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property is to be read.
+     * @param property The property to be read.
+     * @return An accessor for the property or <code>null</code> if no accessor can be provided for the given (base,
+     * property) pair
+     * @throws NullPointerException if context is <code>null</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public PropertyAccessor getPropertyAccessor(ELContext context, Object base, Object property) {
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base == null || !isGetValueDeclaredBy(CompositeELResolver.class)) {
+            return null;
+        }
+
+        Class<?> baseClass = base.getClass();
+        List<ELResolver> guards = null;
+        for (int i = 0; i < elResolvers.length; i++) {
+            if (!mayHandle(i, baseClass)) {
+                continue;
+            }
+            PropertyAccessor accessor = elResolvers[i].getPropertyAccessor(context, base, property);
+            if (accessor != null) {
+                return new ComponentPropertyAccessor(accessor, elResolvers[i],
+                        guards == null ? NO_RESOLVERS : guards.toArray(NO_RESOLVERS));
+            }
+            if (getBaseTypes(i) != null || resolvesProperty(context, elResolvers[i], base, property)) {
+                return null;
+            }
+            if (guards == null) {
+                guards = new ArrayList<>();
+            }
+            guards.add(elResolvers[i]);
+        }
+
+        return null;
+    }
+
+    /*
+     * Determines whether the given resolver resolves the given (base, property) pair without changing the
+     * propertyResolved flag of the context.
+     */
+    private static boolean resolvesProperty(ELContext context, ELResolver elResolver, Object base, Object property) {
+        boolean propertyResolvedSave = context.isPropertyResolved();
+        try {
+            return elResolver.resolveValue(context, base, property) != NOT_RESOLVED;
+        } catch (RuntimeException e) {
+            // The resolver handles the pair but failed to read it
+            return true;
+        } finally {
+            context.setPropertyResolved(propertyResolvedSave);
+        }
+    }
+
+    /*
+     * Per class of base, the component resolvers that may handle a base of that class. The plan belongs to this
+     * composite, which may be short-lived, so it is not stored in the classes. The classes are weakly referenced so that
+     * the plan does not prevent them from being unloaded and the number of classes is limited. Plans for further classes
+     * are calculated on every use.
+     */
+    private final class DispatchPlan {
+
+        private final Map<ClassKey, ELResolver[]> plans = new ConcurrentHashMap<>();
+        private final ReferenceQueue<Class<?>> unloadedClasses = new ReferenceQueue<>();
+
+        ELResolver[] get(Class<?> type) {
+            ELResolver[] result = plans.get(new ClassKey(type, null));
+            if (result == null) {
+                List<ELResolver> candidates = new ArrayList<>(elResolvers.length);
+                for (int i = 0; i < elResolvers.length; i++) {
+                    if (mayHandle(i, type)) {
+                        candidates.add(elResolvers[i]);
+                    }
+                }
+                result = candidates.toArray(NO_RESOLVERS);
+
+                Reference<? extends Class<?>> unloaded;
+                while ((unloaded = unloadedClasses.poll()) != null) {
+                    plans.remove(unloaded);
+                }
+                if (plans.size() < MAX_DISPATCH_PLAN_SIZE) {
+                    plans.put(new ClassKey(type, unloadedClasses), result);
+                }
+            }
+            return result;
+        }
+    }
+
+    /*
+     * A weak reference to a class that is equal to any other key for the same class.
+     */
+    private static final class ClassKey extends WeakReference<Class<?>> {
+
+        private final int hashCode;
+
+        ClassKey(Class<?> type, ReferenceQueue<Class<?>> queue) {
+            super(type, queue);
+            hashCode = type.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof ClassKey)) {
+                return false;
+            }
+            Class<?> type = get();
+            return type != null && type == ((ClassKey) obj).get();
+        }
+    }
+
+    /*
+     * Returns the component resolvers to consult for the given base, using the dispatch plan if it is enabled.
+     */
+    private ELResolver[] getResolvers(Object base) {
+        DispatchPlan plan = dispatchPlan;
+        if (plan != null && base != null) {
+            return plan.get(base.getClass());
+        }
+        return elResolvers;
+    }
+
+    /*
+     * The base types of the component resolver at the given index. They are obtained once, when the resolver is added,
+     * except for a nested composite to which further resolvers may be added.
+     */
+    private Class<?>[] getBaseTypes(int index) {
+        if (elResolvers[index] instanceof CompositeELResolver) {
+            return ((CompositeELResolver) elResolvers[index]).getBaseTypes();
+        }
+        return baseTypes[index];
+    }
+
+    private boolean mayHandle(int index, Class<?> type) {
+        if (elResolvers[index] instanceof CompositeELResolver) {
+            return ((CompositeELResolver) elResolvers[index]).mayHandle(type);
+        }
+        Class<?>[] types = baseTypes[index];
+        if (types == null) {
+            return true;
+        }
+        for (Class<?> baseType : types) {
+            if (baseType.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mayHandle(Class<?> type) {
+        for (int i = 0; i < elResolvers.length; i++) {
+            if (mayHandle(i, type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Notifies listeners of the component resolver that resolved the property, as getValue() does. The guards are the
+     * earlier component resolvers that may handle a base of any type. They are consulted first as they may resolve the
+     * property for some bases of the class.
+     */
+    private static final class ComponentPropertyAccessor extends PropertyAccessor {
+
+        private final PropertyAccessor accessor;
+        private final ELResolver elResolver;
+        private final ELResolver[] guards;
+
+        ComponentPropertyAccessor(PropertyAccessor accessor, ELResolver elResolver, ELResolver[] guards) {
+            super(accessor.getBaseClass(), accessor.getProperty());
+            this.accessor = accessor;
+            this.elResolver = elResolver;
+            this.guards = guards;
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base) {
+            for (int i = 0; i < guards.length; i++) {
+                Object value = guards[i].resolveValue(context, base, getProperty());
+                if (value != NOT_RESOLVED) {
+                    context.notifyPropertyResolvedBy(base, getProperty(), guards[i]);
+                    return value;
+                }
+            }
+            Object value = accessor.getValue(context, base);
+            context.notifyPropertyResolvedBy(base, getProperty(), elResolver);
+            return value;
+        }
+    }
+
+    private static final ELResolver[] NO_RESOLVERS = new ELResolver[0];
+
+    private static final int MAX_DISPATCH_PLAN_SIZE = 256;
+
     private ELResolver[] elResolvers;
-    private int size;
+
+    /*
+     * The base types reported by each component resolver when it was added.
+     */
+    private Class<?>[][] baseTypes;
+
+    /*
+     * Non-null if the dispatch plan is enabled.
+     */
+    private volatile DispatchPlan dispatchPlan;
 }
@@ -19,11 +19,13 @@
 package jakarta.el;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EmptyStackException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Stack;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Context information for expression parsing and evaluation.
@@ -78,9 +80,20 @@ import java.util.Stack;
 public abstract class ELContext {
 
     private boolean resolved;
-    private HashMap<Class<?>, Object> map = new HashMap<>();
+    /*
+     * Context objects are held in an array indexed by the slot assigned to the class of the key. Context objects for
+     * keys without a slot are held in contextOverflow.
+     */
+    private Object[] contextObjects;
+    private Map<Class<?>, Object> contextOverflow;
     private transient List<EvaluationListener> listeners;
-    private Stack<Map<String, Object>> lambdaArgs;
+    /*
+     * The active lambda scopes. Each entry in lambdaScopes is either a Map of argument names to values or a String[] of
+     * argument names, in which case the matching entry in lambdaValues holds the argument values.
+     */
+    private Object[] lambdaScopes;
+    private Object[][] lambdaValues;
+    private int lambdaDepth;
     private ImportHandler importHandler;
     private Locale locale;
 
@@ -157,7 +170,22 @@ public abstract class ELContext {
             throw new NullPointerException();
         }
 
-        map.put(key, contextObject);
+        int slot = CONTEXT_SLOTS.get(key).intValue();
+        if (slot < 0) {
+            if (contextOverflow == null) {
+                contextOverflow = new HashMap<>();
+            }
+            contextOverflow.put(key, contextObject);
+            return;
+        }
+
+        if (contextObjects == null) {
+            contextObjects = new Object[Math.max(slot + 1, 8)];
+        } else if (slot >= contextObjects.length) {
+            int length = Math.min(Math.max(slot + 1, contextObjects.length * 2), MAX_CONTEXT_SLOTS);
+            contextObjects = Arrays.copyOf(contextObjects, length);
+        }
+        contextObjects[slot] = contextObject;
     }
 
     /**
@@ -183,7 +211,13 @@ public abstract class ELContext {
             throw new NullPointerException();
         }
 
-        return map.get(key);
+        int slot = CONTEXT_SLOTS.get(key).intValue();
+        if (slot < 0) {
+            return contextOverflow == null ? null : contextOverflow.get(key);
+        }
+
+        Object[] objects = contextObjects;
+        return objects != null && slot < objects.length ? objects[slot] : null;
     }
 
     /**
@@ -329,6 +363,26 @@ public abstract class ELContext {
         }
     }
 
+    /**
+     * Notifies the listeners which component resolver of a {@link CompositeELResolver} resolved the (base, property)
+     * pair
+     *
+     * @param base The base object
+     * @param property The property Object
+     * @param resolver The component resolver that resolved the pair
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public void notifyPropertyResolvedBy(Object base, Object property, ELResolver resolver) {
+        if (getEvaluationListeners() == null) {
+            return;
+        }
+
+        for (EvaluationListener listener : getEvaluationListeners()) {
+            listener.propertyResolvedBy(this, base, property, resolver);
+        }
+    }
+
     /**
      * Inquires if the name is a LambdaArgument
      *
@@ -336,13 +390,13 @@ public abstract class ELContext {
      * @return true if arg is a LambdaArgument, false otherwise.
      */
     public boolean isLambdaArgument(String arg) {
-        if (lambdaArgs == null) {
-            return false;
-        }
-
-        for (int i = lambdaArgs.size() - 1; i >= 0; i--) {
-            Map<String, Object> lmap = lambdaArgs.elementAt(i);
-            if (lmap.containsKey(arg)) {
+        for (int i = lambdaDepth - 1; i >= 0; i--) {
+            Object scope = lambdaScopes[i];
+            if (scope instanceof String[]) {
+                if (indexOf((String[]) scope, arg) > -1) {
+                    return true;
+                }
+            } else if (((Map<?, ?>) scope).containsKey(arg)) {
                 return true;
             }
         }
@@ -361,15 +415,19 @@ public abstract class ELContext {
      * @since Jakarta Expression Language 3.0
      */
     public Object getLambdaArgument(String arg) {
-        if (lambdaArgs == null) {
-            return null;
-        }
-
-        for (int i = lambdaArgs.size() - 1; i >= 0; i--) {
-            Map<String, Object> lmap = lambdaArgs.elementAt(i);
-            Object v = lmap.get(arg);
-            if (v != null || lmap.containsKey(arg)) {
-                return v;
+        for (int i = lambdaDepth - 1; i >= 0; i--) {
+            Object scope = lambdaScopes[i];
+            if (scope instanceof String[]) {
+                int slot = indexOf((String[]) scope, arg);
+                if (slot > -1) {
+                    return lambdaValues[i][slot];
+                }
+            } else {
+                Map<?, ?> lmap = (Map<?, ?>) scope;
+                Object v = lmap.get(arg);
+                if (v != null || lmap.containsKey(arg)) {
+                    return v;
+                }
             }
         }
 
@@ -385,11 +443,47 @@ public abstract class ELContext {
      * @since Jakarta Expression Language 3.0
      */
     public void enterLambdaScope(Map<String, Object> args) {
-        if (lambdaArgs == null) {
-            lambdaArgs = new Stack<>();
+        pushLambdaScope(args, null);
+    }
+
+    /**
+     * Installs the Lambda arguments, in preparation for the evaluation of a Lambda expression. The argument with the name
+     * at a given index in <code>names</code> has the value at the same index in <code>values</code>. The arguments will be
+     * in scope during the evaluation of the Lambda expression. The scope is removed by {@link #exitLambdaScope()}.
+     *
+     * <p>
+     * Unlike {@link #enterLambdaScope(Map)}, this method does not require a <code>Map</code> to be created for each
+     * evaluation. The arrays are used directly and must not be modified while the scope is active. <code>values</code>
+     * may be longer than <code>names</code>, in which case the additional values are ignored.
+     * </p>
+     *
+     * <p>
+     * If a sub-class overrides any of {@link #enterLambdaScope(Map)}, {@link #exitLambdaScope()},
+     * {@link #isLambdaArgument(String)} or {@link #getLambdaArgument(String)} but not this method, the arguments are
+     * passed to {@link #enterLambdaScope(Map)} as a <code>Map</code>.
+     * </p>
+     *
+     * @param names The Lambda formal parameter names
+     * @param values The Lambda argument values
+     *
+     * @throws IllegalArgumentException if <code>values</code> is shorter than <code>names</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public void enterLambdaScope(String[] names, Object[] values) {
+        if (values.length < names.length) {
+            throw new IllegalArgumentException("Expected [" + names.length + "] values but found [" + values.length + "]");
         }
 
-        lambdaArgs.push(args);
+        if (LAMBDA_SCOPE_OVERRIDDEN.get(getClass()).booleanValue()) {
+            Map<String, Object> args = new HashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                args.put(names[i], values[i]);
+            }
+            enterLambdaScope(args);
+        } else {
+            pushLambdaScope(names, values);
+        }
     }
 
     /**
@@ -398,9 +492,71 @@ public abstract class ELContext {
      * @since Jakarta Expression Language 3.0
      */
     public void exitLambdaScope() {
-        if (lambdaArgs != null) {
-            lambdaArgs.pop();
+        if (lambdaScopes != null) {
+            if (lambdaDepth == 0) {
+                throw new EmptyStackException();
+            }
+            lambdaDepth--;
+            // Don't retain references to arguments
+            lambdaScopes[lambdaDepth] = null;
+            lambdaValues[lambdaDepth] = null;
+        }
+    }
+
+    private void pushLambdaScope(Object scope, Object[] values) {
+        if (lambdaScopes == null) {
+            lambdaScopes = new Object[4];
+            lambdaValues = new Object[4][];
+        } else if (lambdaDepth == lambdaScopes.length) {
+            lambdaScopes = Arrays.copyOf(lambdaScopes, lambdaDepth * 2);
+            lambdaValues = Arrays.copyOf(lambdaValues, lambdaDepth * 2);
+        }
+
+        lambdaScopes[lambdaDepth] = scope;
+        lambdaValues[lambdaDepth] = values;
+        lambdaDepth++;
+    }
+
+    private static int indexOf(String[] names, String arg) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(arg)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Clears the state of this <code>ELContext</code> that relates to the evaluation of expressions so that the instance
+     * can be reused, for example for a new request.
+     *
+     * <p>
+     * The property resolved flag, the context objects added with {@link #putContext(Class, Object)}, any Lambda
+     * arguments and the <code>Locale</code> are cleared. The configuration of the context, such as the
+     * <code>ELResolver</code>, <code>FunctionMapper</code>, <code>VariableMapper</code>, <code>ImportHandler</code> and
+     * the registered {@link EvaluationListener}s, is retained.
+     * </p>
+     *
+     * <p>
+     * Sub-classes that hold additional per evaluation state should override this method to clear that state and must
+     * call <code>super.reset()</code>.
+     * </p>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public void reset() {
+        resolved = false;
+        if (contextObjects != null) {
+            Arrays.fill(contextObjects, null);
+        }
+        contextOverflow = null;
+        if (lambdaScopes != null) {
+            // Don't retain references to arguments
+            Arrays.fill(lambdaScopes, 0, lambdaDepth, null);
+            Arrays.fill(lambdaValues, 0, lambdaDepth, null);
+            lambdaDepth = 0;
         }
+        locale = null;
     }
 
     /**
@@ -446,4 +602,40 @@ public abstract class ELContext {
         return exprFactory.coerceToType(obj, targetType);
     }
 
+    /*
+     * The number of key classes that are assigned a slot in the context object array. Slots are never reused so this
+     * limits the size of the array if many classes (e.g. from multiple deployments of an application) are used as keys.
+     */
+    private static final int MAX_CONTEXT_SLOTS = 64;
+
+    private static final AtomicInteger NEXT_CONTEXT_SLOT = new AtomicInteger();
+
+    /*
+     * The slot in the context object array for each key class, or -1 if no slots remain.
+     */
+    private static final ClassValue<Integer> CONTEXT_SLOTS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int slot = NEXT_CONTEXT_SLOT.getAndUpdate(i -> i < MAX_CONTEXT_SLOTS ? i + 1 : i);
+            return Integer.valueOf(slot < MAX_CONTEXT_SLOTS ? slot : -1);
+        }
+    };
+
+    /*
+     * Sub-classes that manage the lambda scopes themselves must continue to see every scope via the Map based API.
+     */
+    private static final ClassValue<Boolean> LAMBDA_SCOPE_OVERRIDDEN = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return Boolean.valueOf(type.getMethod("enterLambdaScope", Map.class).getDeclaringClass() != ELContext.class ||
+                        type.getMethod("exitLambdaScope").getDeclaringClass() != ELContext.class ||
+                        type.getMethod("isLambdaArgument", String.class).getDeclaringClass() != ELContext.class ||
+                        type.getMethod("getLambdaArgument", String.class).getDeclaringClass() != ELContext.class);
+            } catch (NoSuchMethodException e) {
+                // Can't happen
+                throw new IllegalStateException(e);
+            }
+        }
+    };
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe pool of {@link ELContext} instances that allows the cost of creating an <code>ELContext</code>, such as
+ * building the <code>ELResolver</code> of a {@link StandardELContext}, to be paid once rather than for every request.
+ *
+ * <p>
+ * An <code>ELContext</code> obtained from {@link #acquire()} must only be used by one thread at a time and should be
+ * returned to the pool with {@link #release(ELContext)} once it is no longer required. Contexts are
+ * {@link ELContext#reset() reset} when they are returned to the pool. If the pool is full when a context is released,
+ * the context is discarded.
+ * </p>
+ *
+ * <pre>
+ * ELContextPool&lt;StandardELContext&gt; pool = new ELContextPool&lt;&gt;(() -&gt; new StandardELContext(factory), 64);
+ *
+ * StandardELContext context = pool.acquire();
+ * try {
+ *     ...
+ * } finally {
+ *     pool.release(context);
+ * }
+ * </pre>
+ *
+ * @param <T> The type of <code>ELContext</code> held by this pool
+ *
+ * @since Jakarta Expression Language 6.1
+ */
+public class ELContextPool<T extends ELContext> {
+
+    private final Supplier<? extends T> factory;
+    private final BlockingQueue<T> idle;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param factory Used to create a new <code>ELContext</code> when the pool is empty
+     * @param maxIdle The maximum number of <code>ELContext</code> instances retained by the pool
+     *
+     * @throws NullPointerException if <code>factory</code> is <code>null</code>
+     * @throws IllegalArgumentException if <code>maxIdle</code> is less than one
+     */
+    public ELContextPool(Supplier<? extends T> factory, int maxIdle) {
+        this.factory = Objects.requireNonNull(factory);
+        if (maxIdle < 1) {
+            throw new IllegalArgumentException("maxIdle must be at least one but was [" + maxIdle + "]");
+        }
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    /**
+     * Obtains an <code>ELContext</code> from the pool, creating a new one if the pool is empty.
+     *
+     * @return An <code>ELContext</code> that is not in use by any other caller
+     */
+    public T acquire() {
+        T context = idle.poll();
+        if (context == null) {
+            context = factory.get();
+        }
+        return context;
+    }
+
+    /**
+     * Resets an <code>ELContext</code> and returns it to the pool. The caller must not use the context after calling
+     * this method.
+     *
+     * @param context The <code>ELContext</code> previously obtained from {@link #acquire()}
+     *
+     * @throws NullPointerException if <code>context</code> is <code>null</code>
+     */
+    public void release(T context) {
+        context.reset();
+        idle.offer(context);
+    }
+
+    /**
+     * Obtains the number of <code>ELContext</code> instances currently held by the pool.
+     *
+     * @return The number of idle <code>ELContext</code> instances
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Discards all the <code>ELContext</code> instances currently held by the pool.
+     */
+    public void clear() {
+        idle.clear();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2019 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -18,6 +18,9 @@
 
 package jakarta.el;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
 /**
  * Represents any of the exception conditions that can arise during expression evaluation.
  *
@@ -27,6 +30,12 @@ public class ELException extends RuntimeException {
 
     private static final long serialVersionUID = -2161386187282690885L;
 
+    /*
+     * A detail message that is only formatted if it is read. Once formatted, the message is held in formattedMessage.
+     */
+    private transient volatile ELUtil.LocalizedMessage localizedMessage;
+    private volatile String formattedMessage;
+
     // -------------------------------------
     /**
      * Creates an <code>ELException</code> with no detail message.
@@ -66,4 +75,30 @@ public class ELException extends RuntimeException {
         super(pMessage, pRootCause);
     }
 
+    /*
+     * Creates an ELException with a detail message that is formatted when first read.
+     */
+    ELException(ELUtil.LocalizedMessage message) {
+        super();
+        this.localizedMessage = message;
+    }
+
+    @Override
+    public String getMessage() {
+        ELUtil.LocalizedMessage message = localizedMessage;
+        if (message != null) {
+            String result = message.format();
+            formattedMessage = result;
+            localizedMessage = null;
+            return result;
+        }
+        String result = formattedMessage;
+        return result != null ? result : super.getMessage();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // Format any pending message so that it is serialized
+        getMessage();
+        out.defaultWriteObject();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2022 Oracle and/or its affiliates and others.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -29,8 +29,21 @@ public class ELManager {
 
     private static ExpressionFactory exprFactory = ExpressionFactory.newInstance();
 
+    /*
+     * Created on first use as not all users of the ELManager require it.
+     */
+    private static class SharedELResolverHolder {
+        private static final ELResolver INSTANCE = StandardELContext.createSharedELResolver(exprFactory);
+    }
+
     private StandardELContext elContext;
 
+    /*
+     * Incremented whenever the configuration that may be used when parsing expressions is changed. Used by ELProcessor to
+     * detect when its cached expressions may no longer be valid.
+     */
+    private int parseConfigurationVersion;
+
     /**
      * Return the ExpressionFactory instance used for Jakarta Expression Language evaluations.
      *
@@ -40,15 +53,32 @@ public class ELManager {
         return exprFactory;
     }
 
+    /**
+     * Return the immutable, thread-safe ELResolver containing the standard ELResolvers that is shared by the default
+     * StandardELContext of every ELManager. It may also be passed to
+     * {@link StandardELContext#StandardELContext(ExpressionFactory, ELResolver)} to create further ELContexts that share
+     * it.
+     *
+     * @return The shared ELResolver
+     *
+     * @see StandardELContext#createSharedELResolver(ExpressionFactory)
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public static ELResolver getSharedELResolver() {
+        return SharedELResolverHolder.INSTANCE;
+    }
+
     /**
      * Return the ELContext used for parsing and evaluating Jakarta Expression Language expressions. If there is currently
-     * no ELContext, a default instance of StandardELContext is returned.
+     * no ELContext, a default instance of StandardELContext, that uses the {@link #getSharedELResolver() shared
+     * ELResolver}, is returned.
      *
      * @return The ELContext used for parsing and evaluating Jakarta Expression Language expressions..
      */
     public StandardELContext getELContext() {
         if (elContext == null) {
-            elContext = new StandardELContext(getExpressionFactory());
+            elContext = new StandardELContext(getExpressionFactory(), getSharedELResolver());
         }
 
         return elContext;
@@ -64,6 +94,7 @@ public class ELManager {
     public ELContext setELContext(ELContext context) {
         ELContext prevELContext = elContext;
         elContext = new StandardELContext(context);
+        parseConfigurationVersion++;
         return prevELContext;
     }
 
@@ -97,6 +128,7 @@ public class ELManager {
      */
     public void mapFunction(String prefix, String function, Method method) {
         getELContext().getFunctionMapper().mapFunction(prefix, function, method);
+        parseConfigurationVersion++;
     }
 
     /**
@@ -108,6 +140,7 @@ public class ELManager {
      */
     public void setVariable(String variable, ValueExpression expression) {
         getELContext().getVariableMapper().setVariable(variable, expression);
+        parseConfigurationVersion++;
     }
 
     /**
@@ -119,6 +152,7 @@ public class ELManager {
      */
     public void importStatic(String staticMemberName) throws ELException {
         getELContext().getImportHandler().importStatic(staticMemberName);
+        parseConfigurationVersion++;
     }
 
     /**
@@ -129,6 +163,7 @@ public class ELManager {
      */
     public void importClass(String className) throws ELException {
         getELContext().getImportHandler().importClass(className);
+        parseConfigurationVersion++;
     }
 
     /**
@@ -139,6 +174,7 @@ public class ELManager {
      */
     public void importPackage(String packageName) {
         getELContext().getImportHandler().importPackage(packageName);
+        parseConfigurationVersion++;
     }
 
     /**
@@ -162,4 +198,8 @@ public class ELManager {
     public void addEvaluationListener(EvaluationListener listener) {
         getELContext().addEvaluationListener(listener);
     }
+
+    int getParseConfigurationVersion() {
+        return parseConfigurationVersion;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2024 Oracle and/or its affiliates and others.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -20,6 +20,9 @@ package jakarta.el;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Provides an API for using Jakarta Expression Language in a stand-alone environment.
@@ -70,12 +73,25 @@ import java.lang.reflect.Modifier;
  *
  * </blockquote>
  *
+ * <h3>Expression Cache</h3>
+ * <p>
+ * An expression cache may be enabled with {@link ELProcessor#setExpressionCacheSize(int)}. When enabled, the
+ * {@link ValueExpression}s created for the expression strings passed to {@link ELProcessor#getValue},
+ * {@link ELProcessor#eval}, {@link ELProcessor#setValue} and {@link ELProcessor#compile} are cached, by expression
+ * string and expected type, so that evaluating the same expression repeatedly does not require it to be parsed each
+ * time. The cache is discarded when functions, variables or imports are defined via this <code>ELProcessor</code> or its
+ * {@link ELManager}, as these may change the result of parsing. Changes made directly to the function mapper, variable
+ * mapper or import handler of the <code>ELContext</code> are not detected and require
+ * {@link ELProcessor#clearExpressionCache()} to be called. The cache is disabled by default.
+ * </p>
+ *
  * @since Jakarta Expression Language 3.0
  */
 public class ELProcessor {
 
     private ELManager elManager = new ELManager();
     private ExpressionFactory factory = ELManager.getExpressionFactory();
+    private ExpressionCache expressionCache = new ExpressionCache(0);
 
     /**
      * Return the ELManager used for Jakarta Expression Language processing.
@@ -108,7 +124,7 @@ public class ELProcessor {
      * @return The result of the expression evaluation.
      */
     public <T> T getValue(String expression, Class<T> expectedType) {
-        ValueExpression exp = factory.createValueExpression(elManager.getELContext(), bracket(expression), expectedType);
+        ValueExpression exp = getValueExpression(expression, expectedType);
         return exp.getValue(elManager.getELContext());
     }
 
@@ -127,10 +143,108 @@ public class ELProcessor {
      * must be included as the cause property of this exception, if available.
      */
     public void setValue(String expression, Object value) {
-        ValueExpression exp = factory.createValueExpression(elManager.getELContext(), bracket(expression), Object.class);
+        ValueExpression exp = getValueExpression(expression, Object.class);
         exp.setValue(elManager.getELContext(), value);
     }
 
+    /**
+     * Parses a Jakarta Expression Language expression, without evaluating it, so that it can be evaluated repeatedly. The
+     * result of evaluating the returned expression is not coerced.
+     *
+     * <p>
+     * The returned expression may be evaluated with the <code>ELContext</code> returned by
+     * <code>getELManager().getELContext()</code>.
+     * </p>
+     *
+     * @param expression The Jakarta Expression Language expression to be parsed.
+     * @return The parsed expression
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public ValueExpression compile(String expression) {
+        return getValueExpression(expression, Object.class);
+    }
+
+    /**
+     * Parses a Jakarta Expression Language expression, without evaluating it, so that it can be evaluated repeatedly. The
+     * result of evaluating the returned expression is coerced to the specified type.
+     *
+     * <p>
+     * The returned expression may be evaluated with the <code>ELContext</code> returned by
+     * <code>getELManager().getELContext()</code>.
+     * </p>
+     *
+     * @param expression The Jakarta Expression Language expression to be parsed.
+     * @param expectedType Specifies the type that the result of evaluating the expression will be coerced to.
+     * @return The parsed expression
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public ValueExpression compile(String expression, Class<?> expectedType) {
+        return getValueExpression(expression, expectedType);
+    }
+
+    /**
+     * Sets the maximum number of parsed expressions that will be cached by this <code>ELProcessor</code>. When the cache
+     * is full, the least recently used expression is removed. A size of zero, the default, disables the cache. Any
+     * expressions currently cached are discarded.
+     *
+     * @param size The maximum number of parsed expressions to cache
+     *
+     * @throws IllegalArgumentException if <code>size</code> is negative
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public void setExpressionCacheSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The expression cache size must not be negative but was [" + size + "]");
+        }
+        expressionCache = new ExpressionCache(size);
+    }
+
+    /**
+     * Returns the maximum number of parsed expressions that will be cached by this <code>ELProcessor</code>.
+     *
+     * @return The maximum number of parsed expressions to cache. Zero if the cache is disabled.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public int getExpressionCacheSize() {
+        return expressionCache.maxSize;
+    }
+
+    /**
+     * Discards all the parsed expressions cached by this <code>ELProcessor</code>. The hit and miss counts are not reset.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public void clearExpressionCache() {
+        expressionCache.clear();
+    }
+
+    /**
+     * Returns the number of times a parsed expression was found in the cache of this <code>ELProcessor</code>.
+     *
+     * @return The number of cache hits since the cache was created or last resized
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public long getExpressionCacheHitCount() {
+        return expressionCache.hitCount.sum();
+    }
+
+    /**
+     * Returns the number of times a parsed expression was not found in the cache of this <code>ELProcessor</code> and had
+     * to be parsed.
+     *
+     * @return The number of cache misses since the cache was created or last resized
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public long getExpressionCacheMissCount() {
+        return expressionCache.missCount.sum();
+    }
+
     /**
      * Assign a Jakarta Expression Language expression to a Jakarta Expression Language variable. The expression is parsed,
      * but not evaluated, and the parsed expression is mapped to the Jakarta Expression Language variable in the local
@@ -304,4 +418,124 @@ public class ELProcessor {
     private String bracket(String expression) {
         return "${" + expression + '}';
     }
+
+    private ValueExpression getValueExpression(String expression, Class<?> expectedType) {
+        ELContext context = elManager.getELContext();
+        ExpressionCache cache = expressionCache;
+        if (cache.maxSize == 0 || expression == null) {
+            return factory.createValueExpression(context, bracket(expression), expectedType);
+        }
+
+        ExpressionKey key = new ExpressionKey(expression, expectedType);
+        ValueExpression exp = cache.get(key, elManager.getParseConfigurationVersion());
+        if (exp == null) {
+            exp = factory.createValueExpression(context, bracket(expression), expectedType);
+            cache.put(key, exp);
+        }
+        return exp;
+    }
+
+
+    private static final class ExpressionKey {
+
+        private final String expression;
+        private final Class<?> expectedType;
+        private final int hash;
+
+        ExpressionKey(String expression, Class<?> expectedType) {
+            this.expression = expression;
+            this.expectedType = expectedType;
+            this.hash = 31 * expression.hashCode() + (expectedType == null ? 0 : expectedType.hashCode());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ExpressionKey)) {
+                return false;
+            }
+            ExpressionKey other = (ExpressionKey) obj;
+            return expectedType == other.expectedType && expression.equals(other.expression);
+        }
+    }
+
+
+    /*
+     * A least recently used cache. Look-ups do not lock so that the cache may be used by more than one thread, even
+     * though ELProcessor is not thread safe. The least recently used expression is only found, by scanning the cache,
+     * when an expression is added to a full cache.
+     */
+    private static final class ExpressionCache {
+
+        private final int maxSize;
+        private final Map<ExpressionKey, CachedExpression> expressions = new ConcurrentHashMap<>();
+        private volatile int parseConfigurationVersion;
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+
+        ExpressionCache(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        ValueExpression get(ExpressionKey key, int parseConfigurationVersion) {
+            if (this.parseConfigurationVersion != parseConfigurationVersion) {
+                // Functions, variables or imports have changed. Cached expressions may no longer be valid.
+                expressions.clear();
+                this.parseConfigurationVersion = parseConfigurationVersion;
+            }
+            CachedExpression cached = expressions.get(key);
+            if (cached == null) {
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+            cached.lastUsed = System.nanoTime();
+            return cached.expression;
+        }
+
+        void put(ExpressionKey key, ValueExpression exp) {
+            if (expressions.size() >= maxSize) {
+                synchronized (this) {
+                    while (expressions.size() >= maxSize) {
+                        Map.Entry<ExpressionKey, CachedExpression> eldest = null;
+                        for (Map.Entry<ExpressionKey, CachedExpression> entry : expressions.entrySet()) {
+                            if (eldest == null || entry.getValue().lastUsed - eldest.getValue().lastUsed < 0) {
+                                eldest = entry;
+                            }
+                        }
+                        if (eldest == null) {
+                            break;
+                        }
+                        expressions.remove(eldest.getKey());
+                    }
+                }
+            }
+            expressions.put(key, new CachedExpression(exp));
+        }
+
+        void clear() {
+            expressions.clear();
+        }
+    }
+
+
+    private static final class CachedExpression {
+
+        private final ValueExpression expression;
+        /*
+         * Updated without synchronization as an occasional lost update only affects which expression is evicted.
+         */
+        private long lastUsed = System.nanoTime();
+
+        CachedExpression(ValueExpression expression) {
+            this.expression = expression;
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2025 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -88,6 +88,31 @@ package jakarta.el;
  */
 public abstract class ELResolver {
 
+    /**
+     * The value returned by {@link #resolveValue(ELContext, Object, Object)} to indicate that the resolver did not
+     * handle the given (base, property) pair.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public static final Object NOT_RESOLVED = new NotResolved();
+
+    /*
+     * The class that declares the getValue() method used by each class of resolver. The standard resolvers only use
+     * their own implementation of resolveValue() if getValue() has not been overridden so that sub-classes that
+     * customise getValue() continue to behave as before.
+     */
+    private static final ClassValue<Class<?>> GET_VALUE_DECLARING_CLASS = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            try {
+                return type.getMethod("getValue", ELContext.class, Object.class, Object.class).getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                // Can't happen as every resolver has a getValue() method
+                return type;
+            }
+        }
+    };
+
     /**
      * Attempts to resolve the given <code>property</code> object on the given <code>base</code> object.
      *
@@ -113,6 +138,221 @@ public abstract class ELResolver {
      */
     public abstract Object getValue(ELContext context, Object base, Object property);
 
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given <code>base</code> object, returning
+     * {@link #NOT_RESOLVED} if this resolver does not handle the given (base, property) pair.
+     *
+     * <p>
+     * This method is equivalent to {@link #getValue} except that the outcome is reported by the return value rather than
+     * by the <code>propertyResolved</code> property of the <code>ELContext</code>. This allows a
+     * {@link CompositeELResolver} to consult its component resolvers without resetting and checking that property for
+     * each of them. If the pair is handled, the {@link EvaluationListener}s are notified in the same way as by
+     * {@link #getValue}. The <code>propertyResolved</code> property of the <code>ELContext</code> may or may not be
+     * modified by this method and must be ignored by the caller.
+     * </p>
+     *
+     * <p>
+     * The default implementation sets the <code>propertyResolved</code> property of the <code>ELContext</code> to
+     * <code>false</code>, calls {@link #getValue} and returns {@link #NOT_RESOLVED} if the <code>propertyResolved</code>
+     * property is still <code>false</code>. Resolvers that only implement {@link #getValue} therefore continue to work
+     * unchanged. Resolvers that override this method must ensure that both methods return the same result.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned, or <code>null</code> to resolve a top-level
+     * variable.
+     * @param property The property or variable to be resolved.
+     * @return The result of the variable or property resolution or {@link #NOT_RESOLVED} if this resolver does not handle
+     * the given (base, property) pair
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair is handled by this <code>ELResolver</code> but
+     * the specified variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution. The thrown
+     * exception must be included as the cause property of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public Object resolveValue(ELContext context, Object base, Object property) {
+        context.setPropertyResolved(false);
+        Object value = getValue(context, base, property);
+        if (!context.isPropertyResolved()) {
+            return NOT_RESOLVED;
+        }
+        return value;
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given <code>base</code> object and returns the
+     * result coerced to <code>boolean</code>.
+     *
+     * <p>
+     * This method is equivalent to calling {@link #getValue} and coercing the result to <code>boolean</code> but allows
+     * resolvers that can obtain the value as a <code>boolean</code> to do so without boxing it. If this resolver
+     * handles the given (base, property) pair, the <code>propertyResolved</code> property of the <code>ELContext</code>
+     * object must be set to <code>true</code> by the resolver, before returning. If this property is not
+     * <code>true</code> after this method is called, the caller should ignore the return value.
+     * </p>
+     *
+     * <p>
+     * The default implementation calls {@link #getValue} and, if the <code>propertyResolved</code> property of the
+     * <code>ELContext</code> is then <code>true</code>, coerces the result using {@link ELContext#convertToType}.
+     * Otherwise it returns <code>false</code>.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned, or <code>null</code> to resolve a top-level
+     * variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the result of the variable or property resolution coerced to <code>boolean</code>; otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair is handled by this <code>ELResolver</code> but
+     * the specified variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * result cannot be coerced to <code>boolean</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public boolean getBoolean(ELContext context, Object base, Object property) {
+        Object value = getValue(context, base, property);
+        if (!context.isPropertyResolved()) {
+            return false;
+        }
+        return ELUtil.toBoolean(context, value);
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given <code>base</code> object and returns the
+     * result coerced to <code>int</code>.
+     *
+     * <p>
+     * This method is equivalent to calling {@link #getValue} and coercing the result to <code>int</code> but allows
+     * resolvers that can obtain the value as an <code>int</code> to do so without boxing it. If this resolver
+     * handles the given (base, property) pair, the <code>propertyResolved</code> property of the <code>ELContext</code>
+     * object must be set to <code>true</code> by the resolver, before returning. If this property is not
+     * <code>true</code> after this method is called, the caller should ignore the return value.
+     * </p>
+     *
+     * <p>
+     * The default implementation calls {@link #getValue} and, if the <code>propertyResolved</code> property of the
+     * <code>ELContext</code> is then <code>true</code>, coerces the result using {@link ELContext#convertToType}.
+     * Otherwise it returns <code>0</code>.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned, or <code>null</code> to resolve a top-level
+     * variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the result of the variable or property resolution coerced to <code>int</code>; otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair is handled by this <code>ELResolver</code> but
+     * the specified variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * result cannot be coerced to <code>int</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public int getInt(ELContext context, Object base, Object property) {
+        Object value = getValue(context, base, property);
+        if (!context.isPropertyResolved()) {
+            return 0;
+        }
+        return ELUtil.toInt(context, value);
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given <code>base</code> object and returns the
+     * result coerced to <code>long</code>.
+     *
+     * <p>
+     * This method is equivalent to calling {@link #getValue} and coercing the result to <code>long</code> but allows
+     * resolvers that can obtain the value as a <code>long</code> to do so without boxing it. If this resolver
+     * handles the given (base, property) pair, the <code>propertyResolved</code> property of the <code>ELContext</code>
+     * object must be set to <code>true</code> by the resolver, before returning. If this property is not
+     * <code>true</code> after this method is called, the caller should ignore the return value.
+     * </p>
+     *
+     * <p>
+     * The default implementation calls {@link #getValue} and, if the <code>propertyResolved</code> property of the
+     * <code>ELContext</code> is then <code>true</code>, coerces the result using {@link ELContext#convertToType}.
+     * Otherwise it returns <code>0</code>.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned, or <code>null</code> to resolve a top-level
+     * variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the result of the variable or property resolution coerced to <code>long</code>; otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair is handled by this <code>ELResolver</code> but
+     * the specified variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * result cannot be coerced to <code>long</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public long getLong(ELContext context, Object base, Object property) {
+        Object value = getValue(context, base, property);
+        if (!context.isPropertyResolved()) {
+            return 0;
+        }
+        return ELUtil.toLong(context, value);
+    }
+
+    /**
+     * Attempts to resolve the given <code>property</code> object on the given <code>base</code> object and returns the
+     * result coerced to <code>double</code>.
+     *
+     * <p>
+     * This method is equivalent to calling {@link #getValue} and coercing the result to <code>double</code> but allows
+     * resolvers that can obtain the value as a <code>double</code> to do so without boxing it. If this resolver
+     * handles the given (base, property) pair, the <code>propertyResolved</code> property of the <code>ELContext</code>
+     * object must be set to <code>true</code> by the resolver, before returning. If this property is not
+     * <code>true</code> after this method is called, the caller should ignore the return value.
+     * </p>
+     *
+     * <p>
+     * The default implementation calls {@link #getValue} and, if the <code>propertyResolved</code> property of the
+     * <code>ELContext</code> is then <code>true</code>, coerces the result using {@link ELContext#convertToType}.
+     * Otherwise it returns <code>0</code>.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property value is to be returned, or <code>null</code> to resolve a top-level
+     * variable.
+     * @param property The property or variable to be resolved.
+     * @return If the <code>propertyResolved</code> property of <code>ELContext</code> was set to <code>true</code>, then
+     * the result of the variable or property resolution coerced to <code>double</code>; otherwise undefined.
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws PropertyNotFoundException if the given (base, property) pair is handled by this <code>ELResolver</code> but
+     * the specified variable or property does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution or if the
+     * result cannot be coerced to <code>double</code>. The thrown exception must be included as the cause property of
+     * this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public double getDouble(ELContext context, Object base, Object property) {
+        Object value = getValue(context, base, property);
+        if (!context.isPropertyResolved()) {
+            return 0;
+        }
+        return ELUtil.toDouble(context, value);
+    }
+
+    /*
+     * Used by the standard resolvers to determine if they may resolve values directly or if they must use the default
+     * implementation of resolveValue() because a sub-class has overridden getValue().
+     */
+    final boolean isGetValueDeclaredBy(Class<?> type) {
+        return GET_VALUE_DECLARING_CLASS.get(getClass()) == type;
+    }
+
     /**
      * Attempts to resolve and invoke the given <code>method</code> on the given <code>base</code> object.
      *
@@ -266,6 +506,157 @@ public abstract class ELResolver {
         return null;
     }
 
+    /**
+     * Returns the types of non-<code>null</code> base object for which this resolver may resolve a (base, property)
+     * pair or a (base, method) pair.
+     *
+     * <p>
+     * If a non-<code>null</code> array is returned, this resolver must not resolve any (base, property) or (base, method)
+     * pair in {@link #getValue}, {@link #getType}, {@link #setValue}, {@link #isReadOnly} or {@link #invoke} where the
+     * base is not <code>null</code> and is not an instance of at least one of the returned types. An empty array
+     * indicates that this resolver only resolves pairs where the base is <code>null</code>. This information may be used
+     * by a {@link CompositeELResolver} to skip resolvers that cannot resolve a given base without changing the result of
+     * the resolution. See {@link CompositeELResolver#setDispatchPlanEnabled(boolean)}.
+     * </p>
+     *
+     * <p>
+     * The default implementation returns <code>null</code> to indicate that this resolver may resolve pairs with a base of
+     * any type.
+     * </p>
+     *
+     * @return The types of non-<code>null</code> base object this resolver may handle or <code>null</code> if the resolver
+     * may handle a base of any type
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public Class<?>[] getBaseTypes() {
+        return null;
+    }
+
+    /**
+     * Returns a reusable accessor that reads the given <code>property</code> from any base object of the same class as
+     * the given <code>base</code> in the same way as {@link #getValue} would.
+     *
+     * <p>
+     * An expression implementation may retain the returned accessor, for example at the node of the expression that
+     * accesses the property, and use it in place of {@link #getValue} for later evaluations where the base is accepted by
+     * {@link PropertyAccessor#isApplicable(Object)} and the property is equal to {@link PropertyAccessor#getProperty()}.
+     * This avoids consulting every resolver in a chain of resolvers once the accessor has been obtained. An accessor
+     * reflects the configuration of this resolver when it was obtained. It must not be used with a different
+     * <code>ELResolver</code> and it must be discarded if the configuration of this resolver changes, for example if a
+     * further resolver is added to a {@link CompositeELResolver}.
+     * </p>
+     *
+     * <p>
+     * A resolver must only return an accessor if it would resolve the property for every base of that class, so the
+     * value is never provided by a resolver consulted later. If no accessor can be provided, <code>null</code> is returned
+     * and the caller must continue to use {@link #getValue}. The <code>propertyResolved</code> property of the
+     * <code>ELContext</code> is not modified by this method. The standard resolvers do not provide an accessor if a
+     * sub-class overrides {@link #getValue} so that the overriding implementation continues to be used.
+     * </p>
+     *
+     * <p>
+     * The default implementation returns <code>null</code>.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @param base The base object whose property is to be read. Only the class of this object is used to create the
+     * accessor.
+     * @param property The property to be read.
+     * @return An accessor for the property or <code>null</code> if no accessor can be provided for the given (base,
+     * property) pair
+     * @throws NullPointerException if context is <code>null</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public PropertyAccessor getPropertyAccessor(ELContext context, Object base, Object property) {
+        return null;
+    }
+
+    /**
+     * Reads a single property from base objects of a single class. Instances are obtained from
+     * {@link ELResolver#getPropertyAccessor(ELContext, Object, Object)}.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public abstract static class PropertyAccessor {
+
+        private final Class<?> baseClass;
+        private final Object property;
+
+        /**
+         * Creates an accessor for the given property of base objects of the given class.
+         *
+         * @param baseClass The class of the base objects this accessor may be used with
+         * @param property The property this accessor reads
+         * @throws NullPointerException if baseClass is <code>null</code>
+         */
+        protected PropertyAccessor(Class<?> baseClass, Object property) {
+            if (baseClass == null) {
+                throw new NullPointerException();
+            }
+            this.baseClass = baseClass;
+            this.property = property;
+        }
+
+        /**
+         * Returns the class of the base objects this accessor may be used with.
+         *
+         * @return The class of the base objects
+         */
+        public final Class<?> getBaseClass() {
+            return baseClass;
+        }
+
+        /**
+         * Returns the property this accessor reads.
+         *
+         * @return The property
+         */
+        public final Object getProperty() {
+            return property;
+        }
+
+        /**
+         * Determines whether this accessor may be used with the given base object. That is the case if the class of the
+         * base is exactly the class for which this accessor was obtained.
+         *
+         * @param base The base object
+         * @return <code>true</code> if this accessor may be used with the given base object, otherwise
+         * <code>false</code>
+         */
+        public final boolean isApplicable(Object base) {
+            return base != null && base.getClass() == baseClass;
+        }
+
+        /**
+         * Returns the value of the property for the given base object. The base must be one for which
+         * {@link #isApplicable(Object)} returns <code>true</code>.
+         *
+         * <p>
+         * The <code>propertyResolved</code> property of the <code>ELContext</code> is set to <code>true</code> and the
+         * result, including any exception, is the same as that of the {@link ELResolver#getValue} method of the resolver
+         * that provided this accessor.
+         * </p>
+         *
+         * @param context The context of this evaluation.
+         * @param base The base object whose property value is to be returned
+         * @return The value of the property
+         * @throws PropertyNotFoundException if the property does not exist or is not readable
+         * @throws ELException if an exception was thrown while reading the property. The thrown exception must be
+         * included as the cause property of this exception, if available.
+         */
+        public abstract Object getValue(ELContext context, Object base);
+    }
+
+    private static final class NotResolved {
+
+        @Override
+        public String toString() {
+            return "NOT_RESOLVED";
+        }
+    }
+
     /**
      * This class is used as a key for {@link ELContext#getContext(Class)}. The key references a context object that if
      * present and set to {@code Boolean#TRUE}, indicates that the identifier being resolved is a single, stand-alone
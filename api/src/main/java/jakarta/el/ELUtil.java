@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -18,6 +18,9 @@
 
 package jakarta.el;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
@@ -26,6 +29,8 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -33,15 +38,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Utility methods for this portion of the Jakarta Expression Language implementation
  *
- * <p>
- * Methods on this class use a Map instance stored in ThreadLocal storage to minimize the performance impact on
- * operations that take place multiple times on a single Thread. The keys and values of the Map are implementation
- * private.
- *
  * @author edburns
  * @author Kin-man Chung
  * @author Dongbin Nie
@@ -54,42 +56,10 @@ class ELUtil {
     private ELUtil() {
     }
 
-    /**
-     * <p>
-     * The <code>ThreadLocal</code> variable used to record the <code>jakarta.faces.context.FacesContext</code> instance for
-     * each processing thread.
-     * </p>
-     */
-    private static ThreadLocal<Map<String, ResourceBundle>> instance = new ThreadLocal<>() {
-        @Override
-        protected Map<String, ResourceBundle> initialValue() {
-            return (null);
-        }
-    };
-
-    /**
-     * @return a Map stored in ThreadLocal storage. This may be used by methods of this class to minimize the performance
-     * impact for operations that may take place multiple times on a given Thread instance.
-     */
-    private static Map<String, ResourceBundle> getCurrentInstance() {
-        Map<String, ResourceBundle> result = instance.get();
-        if (result == null) {
-            result = new HashMap<>();
-            setCurrentInstance(result);
-        }
-
-        return result;
-
-    }
-
-    /**
-     * Replace the Map with the argument context.
-     *
-     * @param context the Map to be stored in ThreadLocal storage.
+    /*
+     * The message bundles, shared by all threads. The number of distinct locales in use is small so no limit is applied.
      */
-    private static void setCurrentInstance(Map<String, ResourceBundle> context) {
-        instance.set(context);
-    }
+    private static final Map<Locale, ResourceBundle> MESSAGE_BUNDLES = new ConcurrentHashMap<>();
 
     /**
      * Convenience method, calls through to getExceptionMessageString(ELContext,java.lang.String,Object []).
@@ -122,24 +92,40 @@ class ELUtil {
      * @return a localized String for the argument messageId
      */
     public static String getExceptionMessageString(ELContext context, String messageId, Object[] params) {
-        String result = "";
-        Locale locale = null;
+        if (null == context || null == messageId) {
+            return "";
+        }
 
+        return formatMessage(getLocale(context), messageId, params);
+    }
+
+    /*
+     * As getExceptionMessageString(ELContext,String,Object[]) but the message bundle is only loaded and the message
+     * only formatted if the message is read. Intended for exceptions that are often thrown and caught without their
+     * message being used.
+     */
+    static LocalizedMessage getLazyExceptionMessage(ELContext context, String messageId, Object[] params) {
         if (null == context || null == messageId) {
-            return result;
+            return new LocalizedMessage(null, null, null);
         }
 
-        if (null == (locale = context.getLocale())) {
+        return new LocalizedMessage(getLocale(context), messageId, params);
+    }
+
+    private static Locale getLocale(ELContext context) {
+        Locale locale = context.getLocale();
+        if (null == locale) {
             locale = Locale.getDefault();
         }
+        return locale;
+    }
+
+    private static String formatMessage(Locale locale, String messageId, Object[] params) {
+        String result = "";
 
         if (locale != null) {
-            Map<String, ResourceBundle> threadMap = getCurrentInstance();
-            ResourceBundle resourceBundle = null;
-            if (null == (resourceBundle = threadMap.get(locale.toString()))) {
-                resourceBundle = ResourceBundle.getBundle("jakarta.el.PrivateMessages", locale);
-                threadMap.put(locale.toString(), resourceBundle);
-            }
+            ResourceBundle resourceBundle = MESSAGE_BUNDLES.computeIfAbsent(locale,
+                    l -> ResourceBundle.getBundle("jakarta.el.PrivateMessages", l));
 
             if (null != resourceBundle) {
                 try {
@@ -160,6 +146,30 @@ class ELUtil {
         return result;
     }
 
+    /*
+     * A localized exception message that has not yet been formatted. The locale is captured when the instance is
+     * created as the ELContext may be reused once the exception has been thrown.
+     */
+    static final class LocalizedMessage {
+
+        private final Locale locale;
+        private final String messageId;
+        private final Object[] params;
+
+        LocalizedMessage(Locale locale, String messageId, Object[] params) {
+            this.locale = locale;
+            this.messageId = messageId;
+            this.params = params;
+        }
+
+        String format() {
+            if (null == messageId) {
+                return "";
+            }
+            return formatMessage(locale, messageId, params);
+        }
+    }
+
     static Constructor<?> findConstructor(Class<?> klass, Class<?>[] paramTypes, Object[] params) {
         String methodName = "<init>";
 
@@ -171,21 +181,45 @@ class ELUtil {
             paramTypes = getTypesFromValues(params);
         }
 
-        Constructor<?>[] constructors = klass.getConstructors();
+        ClassMethods classMethods = CLASS_METHODS.get(klass);
 
-        List<Wrapper> wrappers = Wrapper.wrap(constructors);
+        MethodKey key = new MethodKey(methodName, false, paramTypes, params);
+        Constructor<?> constructor = classMethods.getResolvedConstructor(key);
+        if (constructor != null) {
+            return constructor;
+        }
 
-        Wrapper result = findWrapper(klass, wrappers, methodName, paramTypes, params);
+        boolean[] valueDependent = new boolean[1];
+        Wrapper result = findWrapper(klass, classMethods.getConstructors(), methodName, paramTypes, params, valueDependent);
 
         if (result == null) {
             return null;
         }
 
-        return getConstructor(klass, (Constructor<?>) result.unWrap());
+        constructor = getConstructor(klass, (Constructor<?>) result.unWrap());
+        if (constructor != null && !valueDependent[0]) {
+            classMethods.putResolvedConstructor(key, constructor);
+        }
+
+        return constructor;
     }
 
     static Object invokeConstructor(ELContext context, Constructor<?> constructor, Object[] params) {
-        Object[] parameters = buildParameters(context, constructor.getParameterTypes(), constructor.isVarArgs(), params);
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] parameters = buildParameters(context, parameterTypes, constructor.isVarArgs(), params);
+
+        MethodHandle handle = CLASS_METHODS.get(constructor.getDeclaringClass()).getConstructorHandle(constructor);
+        if (handle != NO_CONSTRUCTOR_HANDLE && isExactArguments(parameterTypes, parameters)) {
+            try {
+                return (Object) handle.invokeExact(parameters);
+            } catch (Throwable t) {
+                // Equivalent to the InvocationTargetException case below
+                throw new ELException(t);
+            }
+        }
+
+        // Use reflection where a MethodHandle is not available or the arguments need conversion (or are of the wrong type)
+        // so that error handling is unchanged
         try {
             return constructor.newInstance(parameters);
         } catch (IllegalAccessException iae) {
@@ -199,6 +233,25 @@ class ELUtil {
         }
     }
 
+    /*
+     * Is the value suitable to pass, without conversion, as an argument of the given type?
+     */
+    static boolean isExactArgument(Class<?> type, Object value) {
+        if (value == null) {
+            return !type.isPrimitive();
+        }
+        return getBoxingTypeIfPrimitive(type).isInstance(value);
+    }
+
+    private static boolean isExactArguments(Class<?>[] types, Object[] values) {
+        for (int i = 0; i < types.length; i++) {
+            if (!isExactArgument(types[i], values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     static Method findMethod(Class<?> klass, Object base, String methodName, Class<?>[] paramTypes, Object[] params, boolean staticOnly) {
         Method method = findMethod(klass, base, methodName, paramTypes, params);
         if (staticOnly && !Modifier.isStatic(method.getModifiers())) {
@@ -231,21 +284,41 @@ class ELUtil {
             paramTypes = getTypesFromValues(paramValues);
         }
 
-        Method[] methods = clazz.getMethods();
+        ClassMethods classMethods = CLASS_METHODS.get(clazz);
 
-        List<Wrapper> wrappers = Wrapper.wrap(methods, methodName);
+        // The accessible method returned by getMethod() depends on whether base is an instance of clazz
+        MethodKey key = new MethodKey(methodName, clazz.isInstance(base), paramTypes, paramValues);
+        Method method = classMethods.getResolvedMethod(key);
+        if (method != null) {
+            METHOD_CACHE_HITS.increment();
+            return method;
+        }
+        METHOD_CACHE_MISSES.increment();
 
-        Wrapper result = findWrapper(clazz, wrappers, methodName, paramTypes, paramValues);
+        boolean[] valueDependent = new boolean[1];
+        Wrapper result = findWrapper(clazz, classMethods.getMethods(methodName), methodName, paramTypes, paramValues, valueDependent);
 
         if (result == null) {
             return null;
         }
 
-        return getMethod(clazz, base, (Method) result.unWrap());
+        method = getMethod(clazz, base, (Method) result.unWrap());
+        if (method != null && !valueDependent[0]) {
+            classMethods.putResolvedMethod(key, method);
+        }
+
+        return method;
     }
 
+    /*
+     * If valueDependent is non-null, valueDependent[0] is set to true if the selection had to consider the parameter
+     * values rather than just the parameter types. Such a selection must not be cached against the parameter types.
+     * Whether a value is available for each parameter also affects the selection so the cache key includes the number
+     * of values.
+     */
     @SuppressWarnings("null")
-    private static Wrapper findWrapper(Class<?> clazz, List<Wrapper> wrappers, String name, Class<?>[] paramTypes, Object[] paramValues) {
+    private static Wrapper findWrapper(Class<?> clazz, List<Wrapper> wrappers, String name, Class<?>[] paramTypes, Object[] paramValues,
+            boolean[] valueDependent) {
         List<Wrapper> assignableCandidates = new ArrayList<>();
         List<Wrapper> coercibleCandidates = new ArrayList<>();
         List<Wrapper> varArgsCandidates = new ArrayList<>();
@@ -290,10 +363,16 @@ class ELUtil {
                     // unwrap the array's component type
                     Class<?> varType = mParamTypes[i].getComponentType();
                     for (int j = i; j < paramCount; j++) {
-                        if (!isAssignableFrom(paramTypes[j], varType)
-                                && !(paramValues != null && j < paramValues.length && isCoercibleFrom(paramValues[j], varType))) {
-                            noMatch = true;
-                            break;
+                        if (!isAssignableFrom(paramTypes[j], varType)) {
+                            if (paramValues == null || j >= paramValues.length) {
+                                noMatch = true;
+                                break;
+                            }
+                            markValueDependent(valueDependent);
+                            if (!isCoercibleFrom(paramValues[j], varType)) {
+                                noMatch = true;
+                                break;
+                            }
                         }
                     }
                 } else if (mParamTypes[i].equals(paramTypes[i])) {
@@ -304,6 +383,7 @@ class ELUtil {
                         noMatch = true;
                         break;
                     } else {
+                        markValueDependent(valueDependent);
                         if (isCoercibleFrom(paramValues[i], mParamTypes[i])) {
                             coercible = true;
                         } else {
@@ -343,6 +423,12 @@ class ELUtil {
         }
     }
 
+    private static void markValueDependent(boolean[] valueDependent) {
+        if (valueDependent != null) {
+            valueDependent[0] = true;
+        }
+    }
+
     private static Wrapper findMostSpecificWrapper(List<Wrapper> candidates, Class<?>[] matchingTypes, boolean elSpecific, String errorMsg) {
         List<Wrapper> ambiguouses = new ArrayList<>();
         for (Wrapper candidate : candidates) {
@@ -452,7 +538,7 @@ class ELUtil {
         }
     }
 
-    private static Class<?> getBoxingTypeIfPrimitive(Class<?> clazz) {
+    static Class<?> getBoxingTypeIfPrimitive(Class<?> clazz) {
         if (clazz.isPrimitive()) {
             if (clazz == Boolean.TYPE) {
                 return Boolean.class;
@@ -525,15 +611,7 @@ class ELUtil {
     }
 
     private static boolean isCoercibleFrom(Object src, Class<?> target) {
-        // TODO: This isn't pretty but it works. Significant refactoring would
-        // be required to avoid the exception.
-        try {
-            ELManager.getExpressionFactory().coerceToType(src, target);
-        } catch (Exception e) {
-            return false;
-        }
-
-        return true;
+        return ELManager.getExpressionFactory().canCoerceToType(src, target);
     }
 
     private static Class<?>[] getTypesFromValues(Object[] values) {
@@ -594,6 +672,56 @@ class ELUtil {
         return null;
     }
 
+    /*
+     * As getMethod(Class, Object, Method) for a base object that is known to be an instance of type but is not
+     * available. This allows the accessible method to be resolved once per class rather than on each access.
+     */
+    static Method getMethod(Class<?> type, Method m) {
+        if (m == null || (Modifier.isPublic(type.getModifiers()) && canAccessInstance(m))) {
+            return m;
+        }
+        Class<?>[] inf = type.getInterfaces();
+        Method mp = null;
+        for (int i = 0; i < inf.length; i++) {
+            try {
+                mp = inf[i].getMethod(m.getName(), m.getParameterTypes());
+                mp = getMethod(mp.getDeclaringClass(), mp);
+                if (mp != null) {
+                    return mp;
+                }
+            } catch (NoSuchMethodException e) {
+                // Ignore
+            }
+        }
+        Class<?> sup = type.getSuperclass();
+        if (sup != null) {
+            try {
+                mp = sup.getMethod(m.getName(), m.getParameterTypes());
+                mp = getMethod(mp.getDeclaringClass(), mp);
+                if (mp != null) {
+                    return mp;
+                }
+            } catch (NoSuchMethodException e) {
+                // Ignore
+            }
+        }
+        return null;
+    }
+
+    /*
+     * Equivalent to canAccess(base, m) where base is an instance of the declaring class of m. Protected member classes
+     * are included as they are public at the class file level.
+     */
+    private static boolean canAccessInstance(Method m) {
+        int modifiers = m.getModifiers();
+        if (Modifier.isStatic(modifiers)) {
+            return canAccess(null, m);
+        }
+        Class<?> declaringClass = m.getDeclaringClass();
+        return Modifier.isPublic(modifiers) && (declaringClass.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED)) != 0 &&
+                declaringClass.getModule().isExported(declaringClass.getPackageName(), ELUtil.class.getModule());
+    }
+
     static Constructor<?> getConstructor(Class<?> type, Constructor<?> c) {
         if (c == null || Modifier.isPublic(type.getModifiers())) {
             return c;
@@ -657,18 +785,238 @@ class ELUtil {
         return parameters;
     }
 
-    private abstract static class Wrapper {
+    /*
+     * Coerce a value to a primitive without the overhead of the general coercion for values that are already of the
+     * boxed type. A null result of the coercion is treated as the default value of the primitive type.
+     */
+    static boolean toBoolean(ELContext context, Object value) {
+        if (value instanceof Boolean) {
+            return ((Boolean) value).booleanValue();
+        }
+        Boolean result = context.convertToType(value, boolean.class);
+        return result != null && result.booleanValue();
+    }
 
-        public static List<Wrapper> wrap(Method[] methods, String name) {
-            List<Wrapper> result = new ArrayList<>();
-            for (Method method : methods) {
-                if (method.getName().equals(name)) {
-                    result.add(new MethodWrapper(method));
-                }
+    static int toInt(ELContext context, Object value) {
+        if (value instanceof Integer) {
+            return ((Integer) value).intValue();
+        }
+        Integer result = context.convertToType(value, int.class);
+        return result == null ? 0 : result.intValue();
+    }
+
+    static long toLong(ELContext context, Object value) {
+        if (value instanceof Long) {
+            return ((Long) value).longValue();
+        }
+        Long result = context.convertToType(value, long.class);
+        return result == null ? 0 : result.longValue();
+    }
+
+    static double toDouble(ELContext context, Object value) {
+        if (value instanceof Double) {
+            return ((Double) value).doubleValue();
+        }
+        Double result = context.convertToType(value, double.class);
+        return result == null ? 0 : result.doubleValue();
+    }
+
+    /*
+     * Cache of the public methods of a class, grouped by name, and of the results of previous overload resolutions.
+     * ClassValue is used so that the cache does not prevent the class (or its class loader) from being unloaded.
+     */
+    private static final ClassValue<ClassMethods> CLASS_METHODS = new ClassValue<>() {
+        @Override
+        protected ClassMethods computeValue(Class<?> type) {
+            return new ClassMethods(type);
+        }
+    };
+
+    /*
+     * Statistics for the cache of overload resolutions, reported via EvaluationMetrics.
+     */
+    private static final LongAdder METHOD_CACHE_HITS = new LongAdder();
+    private static final LongAdder METHOD_CACHE_MISSES = new LongAdder();
+
+    static long getMethodCacheHitCount() {
+        return METHOD_CACHE_HITS.sum();
+    }
+
+    static long getMethodCacheMissCount() {
+        return METHOD_CACHE_MISSES.sum();
+    }
+
+    /*
+     * The number of MethodHandles created for constructors rather than found in the cache.
+     */
+    private static final LongAdder CONSTRUCTOR_HANDLES_CREATED = new LongAdder();
+
+    static long getConstructorHandleCreatedCount() {
+        return CONSTRUCTOR_HANDLES_CREATED.sum();
+    }
+
+    private static final MethodHandle NO_CONSTRUCTOR_HANDLE = MethodHandles.zero(Object.class);
+
+    private static final MethodType CONSTRUCTOR_HANDLE_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private static final class ClassMethods {
+
+        /*
+         * Limits the number of distinct (name, parameter types) combinations cached per class.
+         */
+        private static final int MAX_RESOLVED_METHODS = 256;
+
+        private final Class<?> type;
+        private final Map<String, List<Wrapper>> methods = new HashMap<>();
+        private final Map<MethodKey, Method> resolvedMethods = new ConcurrentHashMap<>();
+        private volatile List<Wrapper> constructors;
+        private final Map<MethodKey, Constructor<?>> resolvedConstructors = new ConcurrentHashMap<>();
+        private final Map<Constructor<?>, MethodHandle> constructorHandles = new ConcurrentHashMap<>();
+
+        ClassMethods(Class<?> type) {
+            this.type = type;
+            for (Method method : type.getMethods()) {
+                methods.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(new MethodWrapper(method));
+            }
+        }
+
+        List<Wrapper> getMethods(String name) {
+            List<Wrapper> result = methods.get(name);
+            if (result == null) {
+                return Collections.emptyList();
             }
             return result;
         }
 
+        Method getResolvedMethod(MethodKey key) {
+            return resolvedMethods.get(key);
+        }
+
+        void putResolvedMethod(MethodKey key, Method method) {
+            if (resolvedMethods.size() < MAX_RESOLVED_METHODS && isCacheable(type, key.paramTypes)) {
+                // Copy the parameter types as the array may have been provided by the caller
+                Class<?>[] paramTypes = key.paramTypes == null ? null : key.paramTypes.clone();
+                resolvedMethods.put(new MethodKey(key.name, key.instance, paramTypes, key.valueCount), method);
+            }
+        }
+
+        List<Wrapper> getConstructors() {
+            // Constructors are only required for the few classes that are instantiated from expressions
+            List<Wrapper> result = constructors;
+            if (result == null) {
+                result = Wrapper.wrap(type.getConstructors());
+                constructors = result;
+            }
+            return result;
+        }
+
+        Constructor<?> getResolvedConstructor(MethodKey key) {
+            return resolvedConstructors.get(key);
+        }
+
+        void putResolvedConstructor(MethodKey key, Constructor<?> constructor) {
+            if (resolvedConstructors.size() < MAX_RESOLVED_METHODS && isCacheable(type, key.paramTypes)) {
+                // Copy the parameter types as the array may have been provided by the caller
+                Class<?>[] paramTypes = key.paramTypes == null ? null : key.paramTypes.clone();
+                resolvedConstructors.put(new MethodKey(key.name, key.instance, paramTypes, key.valueCount), constructor);
+            }
+        }
+
+        /*
+         * Returns a MethodHandle adapted to (Object[])Object for a constructor declared by this class, or
+         * NO_CONSTRUCTOR_HANDLE if one cannot be created.
+         */
+        MethodHandle getConstructorHandle(Constructor<?> constructor) {
+            return constructorHandles.computeIfAbsent(constructor, c -> {
+                CONSTRUCTOR_HANDLES_CREATED.increment();
+                if (Modifier.isAbstract(c.getDeclaringClass().getModifiers())) {
+                    // Let Constructor.newInstance() report the error
+                    return NO_CONSTRUCTOR_HANDLE;
+                }
+                try {
+                    // The constructor is public and declared by a public type (see getConstructor())
+                    return MethodHandles.publicLookup().unreflectConstructor(c).asFixedArity()
+                            .asSpreader(Object[].class, c.getParameterCount()).asType(CONSTRUCTOR_HANDLE_TYPE);
+                } catch (IllegalAccessException | RuntimeException e) {
+                    // Fall back to Constructor.newInstance()
+                    return NO_CONSTRUCTOR_HANDLE;
+                }
+            });
+        }
+
+        /*
+         * The cache is held by the class so only parameter types that are visible to the class loader of that class may
+         * be used as keys. Any other type could prevent a class loader from being unloaded.
+         */
+        private static boolean isCacheable(Class<?> type, Class<?>[] paramTypes) {
+            if (paramTypes == null) {
+                return true;
+            }
+            for (Class<?> paramType : paramTypes) {
+                if (paramType != null && !isVisible(type.getClassLoader(), paramType.getClassLoader())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isVisible(ClassLoader loader, ClassLoader target) {
+            if (target == null) {
+                return true;
+            }
+            while (loader != null) {
+                if (loader == target) {
+                    return true;
+                }
+                loader = loader.getParent();
+            }
+            return false;
+        }
+    }
+
+    private static final class MethodKey {
+
+        private final String name;
+        private final boolean instance;
+        private final Class<?>[] paramTypes;
+        // -1 if no values were provided
+        private final int valueCount;
+        private final int hashCode;
+
+        MethodKey(String name, boolean instance, Class<?>[] paramTypes, Object[] paramValues) {
+            this(name, instance, paramTypes, paramValues == null ? -1 : paramValues.length);
+        }
+
+        MethodKey(String name, boolean instance, Class<?>[] paramTypes, int valueCount) {
+            this.name = name;
+            this.instance = instance;
+            this.paramTypes = paramTypes;
+            this.valueCount = valueCount;
+            this.hashCode = ((31 * name.hashCode() + Boolean.hashCode(instance)) * 31 + Arrays.hashCode(paramTypes)) * 31 +
+                    valueCount;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MethodKey)) {
+                return false;
+            }
+            MethodKey other = (MethodKey) obj;
+            return instance == other.instance && valueCount == other.valueCount && name.equals(other.name) &&
+                    Arrays.equals(paramTypes, other.paramTypes);
+        }
+    }
+
+    private abstract static class Wrapper {
+
         public static List<Wrapper> wrap(Constructor<?>[] constructors) {
             List<Wrapper> result = new ArrayList<>();
             for (Constructor<?> constructor : constructors) {
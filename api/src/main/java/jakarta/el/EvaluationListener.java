@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates and others.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -52,4 +52,21 @@ public abstract class EvaluationListener {
     public void propertyResolved(ELContext context, Object base, Object property) {
     }
 
+    /**
+     * Receives notification when a {@link CompositeELResolver} has determined which of its component resolvers resolved
+     * the (base, property) pair, or the (base, method) pair in the case of
+     * {@link ELResolver#invoke(ELContext, Object, Object, Class[], Object[])}. This notification follows the
+     * {@link #propertyResolved(ELContext, Object, Object)} notification for the same pair. When composite resolvers are
+     * nested, a notification is received for each composite resolver.
+     *
+     * @param context The ELContext
+     * @param base The base object
+     * @param property The property object
+     * @param resolver The component resolver that resolved the pair
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public void propertyResolvedBy(ELContext context, Object base, Object property, ELResolver resolver) {
+    }
+
 }
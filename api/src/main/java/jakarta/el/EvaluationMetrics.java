@@ -0,0 +1,457 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link EvaluationListener} that records metrics for the evaluation of Jakarta Expression Language expressions.
+ *
+ * <p>
+ * The following metrics are recorded:
+ * <ul>
+ * <li>A latency histogram for each distinct expression string, based on the time between the
+ * {@link #beforeEvaluation} and {@link #afterEvaluation} notifications.</li>
+ * <li>For each type of resolver, the number of (base, property) pairs it resolved as a component of a
+ * {@link CompositeELResolver}, based on the {@link #propertyResolvedBy} notification.</li>
+ * <li>The number of hits and misses for the cache used to resolve methods to invoke, which is shared by all
+ * expressions.</li>
+ * </ul>
+ *
+ * <p>
+ * An instance is registered with each <code>ELContext</code> to be monitored via
+ * {@link ELContext#addEvaluationListener(EvaluationListener)} or {@link ELManager#addEvaluationListener}. An instance
+ * is thread-safe and may be registered with many <code>ELContext</code>s at once. The recorded metrics may be obtained
+ * at any time with {@link #snapshot()} or passed to a {@link Sink}, such as one that exposes them via JMX or writes
+ * them to a log, with {@link #publish(Sink)}.
+ * </p>
+ *
+ * <p>
+ * To limit memory usage, latencies are tracked for a limited number of distinct expression strings. Evaluations of
+ * further expressions are only counted. See {@link Snapshot#getUntrackedEvaluationCount()}.
+ * </p>
+ *
+ * @since Jakarta Expression Language 6.1
+ */
+public class EvaluationMetrics extends EvaluationListener {
+
+    private static final int DEFAULT_MAX_EXPRESSIONS = 1000;
+
+    private final int maxExpressions;
+    private final Map<String, Recorder> expressionLatencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> resolverHitCounts = new ConcurrentHashMap<>();
+    private final LongAdder untrackedEvaluationCount = new LongAdder();
+
+    /**
+     * Creates a new instance that tracks the latency of up to 1000 distinct expression strings.
+     */
+    public EvaluationMetrics() {
+        this(DEFAULT_MAX_EXPRESSIONS);
+    }
+
+    /**
+     * Creates a new instance that tracks the latency of up to the given number of distinct expression strings.
+     *
+     * @param maxExpressions The maximum number of distinct expression strings for which latency is tracked
+     *
+     * @throws IllegalArgumentException if <code>maxExpressions</code> is negative
+     */
+    public EvaluationMetrics(int maxExpressions) {
+        if (maxExpressions < 0) {
+            throw new IllegalArgumentException("The maximum number of expressions must not be negative but was [" + maxExpressions + "]");
+        }
+        this.maxExpressions = maxExpressions;
+    }
+
+    /**
+     * Records the start time of the evaluation.
+     */
+    @Override
+    public void beforeEvaluation(ELContext context, String expression) {
+        Timings timings = (Timings) context.getContext(Timings.class);
+        if (timings == null) {
+            timings = new Timings();
+            context.putContext(Timings.class, timings);
+        }
+        timings.push(this, System.nanoTime());
+    }
+
+    /**
+     * Records the latency of the evaluation.
+     */
+    @Override
+    public void afterEvaluation(ELContext context, String expression) {
+        long end = System.nanoTime();
+        Timings timings = (Timings) context.getContext(Timings.class);
+        if (timings == null) {
+            return;
+        }
+        long start = timings.pop(this);
+        if (start == Timings.NOT_FOUND) {
+            return;
+        }
+
+        Recorder recorder = expressionLatencies.get(expression);
+        if (recorder == null) {
+            if (expressionLatencies.size() >= maxExpressions) {
+                untrackedEvaluationCount.increment();
+                return;
+            }
+            recorder = expressionLatencies.computeIfAbsent(expression, k -> new Recorder());
+        }
+        recorder.record(end - start);
+    }
+
+    /**
+     * Counts the pair as resolved by the type of the given resolver.
+     */
+    @Override
+    public void propertyResolvedBy(ELContext context, Object base, Object property, ELResolver resolver) {
+        resolverHitCounts.computeIfAbsent(resolver.getClass().getName(), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the metrics recorded so far.
+     *
+     * @return An immutable snapshot of the metrics recorded so far
+     */
+    public Snapshot snapshot() {
+        Map<String, LatencyHistogram> latencies = new HashMap<>();
+        for (Map.Entry<String, Recorder> entry : expressionLatencies.entrySet()) {
+            latencies.put(entry.getKey(), entry.getValue().toHistogram());
+        }
+        Map<String, Long> hitCounts = new HashMap<>();
+        for (Map.Entry<String, LongAdder> entry : resolverHitCounts.entrySet()) {
+            hitCounts.put(entry.getKey(), Long.valueOf(entry.getValue().sum()));
+        }
+        return new Snapshot(latencies, hitCounts, untrackedEvaluationCount.sum(), ELUtil.getMethodCacheHitCount(),
+                ELUtil.getMethodCacheMissCount());
+    }
+
+    /**
+     * Passes a snapshot of the metrics recorded so far to the given sink.
+     *
+     * @param sink The sink to receive the metrics
+     */
+    public void publish(Sink sink) {
+        sink.publish(snapshot());
+    }
+
+    /**
+     * Discards the latencies and resolver hit counts recorded so far. The method cache statistics are shared by all
+     * instances and are not reset.
+     */
+    public void reset() {
+        expressionLatencies.clear();
+        resolverHitCounts.clear();
+        untrackedEvaluationCount.reset();
+    }
+
+
+    /**
+     * Receives the metrics recorded by an {@link EvaluationMetrics}, for example to expose them via JMX or to write them
+     * to a log.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @FunctionalInterface
+    public interface Sink {
+
+        /**
+         * Receives a snapshot of the recorded metrics.
+         *
+         * @param snapshot The recorded metrics
+         */
+        void publish(Snapshot snapshot);
+    }
+
+
+    /**
+     * An immutable snapshot of the metrics recorded by an {@link EvaluationMetrics}.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public static final class Snapshot {
+
+        private final Map<String, LatencyHistogram> expressionLatencies;
+        private final Map<String, Long> resolverHitCounts;
+        private final long untrackedEvaluationCount;
+        private final long methodCacheHitCount;
+        private final long methodCacheMissCount;
+
+        Snapshot(Map<String, LatencyHistogram> expressionLatencies, Map<String, Long> resolverHitCounts,
+                long untrackedEvaluationCount, long methodCacheHitCount, long methodCacheMissCount) {
+            this.expressionLatencies = Collections.unmodifiableMap(expressionLatencies);
+            this.resolverHitCounts = Collections.unmodifiableMap(resolverHitCounts);
+            this.untrackedEvaluationCount = untrackedEvaluationCount;
+            this.methodCacheHitCount = methodCacheHitCount;
+            this.methodCacheMissCount = methodCacheMissCount;
+        }
+
+        /**
+         * Returns the latency histogram for each tracked expression string.
+         *
+         * @return An unmodifiable map of expression string to latency histogram
+         */
+        public Map<String, LatencyHistogram> getExpressionLatencies() {
+            return expressionLatencies;
+        }
+
+        /**
+         * Returns, for each type of resolver, the number of pairs it resolved as a component of a
+         * {@link CompositeELResolver}.
+         *
+         * @return An unmodifiable map of resolver class name to count
+         */
+        public Map<String, Long> getResolverHitCounts() {
+            return resolverHitCounts;
+        }
+
+        /**
+         * Returns the number of evaluations that were not tracked because the maximum number of distinct expression
+         * strings was reached.
+         *
+         * @return The number of evaluations that were not tracked
+         */
+        public long getUntrackedEvaluationCount() {
+            return untrackedEvaluationCount;
+        }
+
+        /**
+         * Returns the number of times the method to invoke was found in the method resolution cache.
+         *
+         * @return The number of method resolution cache hits
+         */
+        public long getMethodCacheHitCount() {
+            return methodCacheHitCount;
+        }
+
+        /**
+         * Returns the number of times the method to invoke was not found in the method resolution cache.
+         *
+         * @return The number of method resolution cache misses
+         */
+        public long getMethodCacheMissCount() {
+            return methodCacheMissCount;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("EvaluationMetrics[methodCacheHits=").append(methodCacheHitCount);
+            sb.append(", methodCacheMisses=").append(methodCacheMissCount);
+            sb.append(", untrackedEvaluations=").append(untrackedEvaluationCount).append(']');
+            for (Map.Entry<String, Long> entry : resolverHitCounts.entrySet()) {
+                sb.append(System.lineSeparator()).append("  resolver ").append(entry.getKey());
+                sb.append(": hits=").append(entry.getValue());
+            }
+            for (Map.Entry<String, LatencyHistogram> entry : expressionLatencies.entrySet()) {
+                sb.append(System.lineSeparator()).append("  expression ").append(entry.getKey());
+                sb.append(": ").append(entry.getValue());
+            }
+            return sb.toString();
+        }
+    }
+
+
+    /**
+     * An immutable histogram of evaluation latencies. Latencies are counted in buckets where bucket <code>i</code>
+     * counts latencies from 2<sup>i</sup> nanoseconds (inclusive) to 2<sup>i+1</sup> nanoseconds (exclusive). Bucket
+     * zero also counts latencies of zero nanoseconds.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public static final class LatencyHistogram {
+
+        private final long[] bucketCounts;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        LatencyHistogram(long[] bucketCounts, long count, long totalNanos, long maxNanos) {
+            this.bucketCounts = bucketCounts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Returns the number of recorded evaluations.
+         *
+         * @return The number of recorded evaluations
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the total time of all recorded evaluations.
+         *
+         * @return The total time in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Returns the time of the slowest recorded evaluation.
+         *
+         * @return The maximum time in nanoseconds
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the mean time of the recorded evaluations.
+         *
+         * @return The mean time in nanoseconds or zero if no evaluations have been recorded
+         */
+        public double getMeanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Returns an upper bound for the given percentile of the recorded evaluation times. The bound is the upper limit
+         * of the bucket that contains the percentile, limited to the maximum recorded time.
+         *
+         * @param percentile The percentile, from 0 to 100
+         * @return The upper bound in nanoseconds or zero if no evaluations have been recorded
+         *
+         * @throws IllegalArgumentException if the percentile is not between 0 and 100
+         */
+        public long getPercentileNanos(double percentile) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new IllegalArgumentException("The percentile must be between 0 and 100 but was [" + percentile + "]");
+            }
+            long target = (long) Math.ceil(count * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < bucketCounts.length; i++) {
+                seen += bucketCounts[i];
+                if (seen >= target && seen > 0) {
+                    long upper = i == bucketCounts.length - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+                    return Math.min(upper, maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        /**
+         * Returns the number of evaluations counted in each bucket.
+         *
+         * @return A copy of the bucket counts
+         */
+        public long[] getBucketCounts() {
+            return bucketCounts.clone();
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count + ", meanNanos=" + (long) getMeanNanos() + ", p99Nanos=" + getPercentileNanos(99) +
+                    ", maxNanos=" + maxNanos;
+        }
+    }
+
+
+    /*
+     * Records latencies for a single expression.
+     */
+    private static final class Recorder {
+
+        private final AtomicLongArray bucketCounts = new AtomicLongArray(64);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            if (nanos < 0) {
+                nanos = 0;
+            }
+            bucketCounts.incrementAndGet(nanos == 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos));
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        LatencyHistogram toHistogram() {
+            long[] counts = new long[bucketCounts.length()];
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = bucketCounts.get(i);
+                total += counts[i];
+            }
+            // Use the bucket total so the histogram is consistent even if evaluations are recorded concurrently
+            return new LatencyHistogram(counts, total, totalNanos.sum(), maxNanos.get());
+        }
+    }
+
+
+    /*
+     * Start times of the evaluations in progress for a single ELContext. Evaluations may be nested and more than one
+     * EvaluationMetrics may be registered with the same ELContext so each start time is associated with its owner.
+     */
+    private static final class Timings {
+
+        static final long NOT_FOUND = Long.MIN_VALUE;
+
+        /*
+         * An evaluation that fails may not be followed by an afterEvaluation notification. Discard the start times if
+         * they accumulate beyond any plausible nesting depth.
+         */
+        private static final int MAX_DEPTH = 64;
+
+        private Object[] owners = new Object[4];
+        private long[] starts = new long[4];
+        private int depth;
+
+        void push(Object owner, long start) {
+            if (depth == MAX_DEPTH) {
+                Arrays.fill(owners, null);
+                depth = 0;
+            } else if (depth == owners.length) {
+                owners = Arrays.copyOf(owners, depth * 2);
+                starts = Arrays.copyOf(starts, depth * 2);
+            }
+            owners[depth] = owner;
+            starts[depth] = start;
+            depth++;
+        }
+
+        long pop(Object owner) {
+            for (int i = depth - 1; i >= 0; i--) {
+                if (owners[i] == owner) {
+                    long start = starts[i];
+                    int moved = depth - i - 1;
+                    if (moved > 0) {
+                        System.arraycopy(owners, i + 1, owners, i, moved);
+                        System.arraycopy(starts, i + 1, starts, i, moved);
+                    }
+                    depth--;
+                    owners[depth] = null;
+                    return start;
+                }
+            }
+            return NOT_FOUND;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2024 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -18,7 +18,11 @@
 
 package jakarta.el;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Map;
 import java.util.Properties;
 
@@ -139,6 +143,37 @@ public abstract class ExpressionFactory {
                 "jakarta.el.ExpressionFactory", "com.sun.el.ExpressionFactoryImpl", properties);
     }
 
+    /**
+     * Clears the cached outcome of the lookup procedure used by {@link #newInstance()} for the given class loader.
+     *
+     * <p>
+     * The implementation class found by the lookup procedure, and whether an implementation was found using the Services
+     * API, is cached for each thread context class loader so that repeated calls to <code>newInstance()</code> do not
+     * repeat the lookup. A new <code>ExpressionFactory</code> instance is still created for every call. This method
+     * should be called when the implementations available to a class loader change, for example when an application is
+     * redeployed without its class loader being discarded.
+     * </p>
+     *
+     * @param classLoader The thread context class loader for which the cached outcome should be cleared
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public static void clearProviderCache(ClassLoader classLoader) {
+        FactoryFinder.clearCache(classLoader);
+    }
+
+    /**
+     * Clears the cached outcome of the lookup procedure used by {@link #newInstance()} for all class loaders, including
+     * the cached contents of the properties file "lib/el.properties" in the JRE directory.
+     *
+     * @see #clearProviderCache(ClassLoader)
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public static void clearProviderCache() {
+        FactoryFinder.clearCache();
+    }
+
     /**
      * Parses an expression into a {@link ValueExpression} for later evaluation. Use this method for expressions that refer
      * to values.
@@ -238,6 +273,259 @@ public abstract class ExpressionFactory {
      */
     public abstract <T> T coerceToType(Object obj, Class<T> targetType);
 
+    /**
+     * Determines whether an object can be coerced to a specific type according to the Jakarta Expression Language type
+     * conversion rules, without performing the coercion and without throwing an exception if the coercion is not
+     * possible. The custom type conversions in the <code>ELResolver</code>s are not considered.
+     *
+     * <p>
+     * The default implementation applies the conversion rules to the type of the object and the target type. A
+     * <code>String</code> to be coerced to a number or an enum is checked against the format accepted by the conversion
+     * without being converted. {@link #coerceToType(Object, Class)} is not called. Implementations that extend the
+     * conversion rules should override this method so that the result remains consistent with
+     * {@link #coerceToType(Object, Class)}.
+     * </p>
+     *
+     * @param obj The object to coerce.
+     * @param targetType The target type for the coercion.
+     *
+     * @return <code>true</code> if {@link #coerceToType(Object, Class)} would coerce the object to the target type,
+     * <code>false</code> if it would throw an exception
+     *
+     * @throws NullPointerException if <code>targetType</code> is <code>null</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public boolean canCoerceToType(Object obj, Class<?> targetType) {
+        if (targetType == null) {
+            throw new NullPointerException("Target type cannot be null");
+        }
+
+        if (obj == null) {
+            // null is coerced to the default value of a primitive type
+            return true;
+        }
+
+        Class<?> boxedTargetType = ELUtil.getBoxingTypeIfPrimitive(targetType);
+        if (boxedTargetType.isInstance(obj) || boxedTargetType == String.class) {
+            // Any object may be coerced to String
+            return true;
+        }
+        if (isNumberOrCharacterType(boxedTargetType)) {
+            if (obj instanceof String) {
+                return isNumberString((String) obj, boxedTargetType);
+            }
+            return obj instanceof Number || obj instanceof Character;
+        }
+        if (boxedTargetType == Boolean.class) {
+            return obj instanceof String;
+        }
+        if (boxedTargetType.isEnum()) {
+            return obj instanceof String && isEnumConstant((String) obj, boxedTargetType);
+        }
+        if (obj instanceof LambdaExpression) {
+            return isFunctionalInterface(targetType);
+        }
+        if (obj.getClass().isArray() && targetType.isArray()) {
+            Class<?> componentType = targetType.getComponentType();
+            int length = Array.getLength(obj);
+            for (int i = 0; i < length; i++) {
+                if (!canCoerceToType(Array.get(obj, i), componentType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /*
+     * The types for which the conversion rules accept a Number, Character or String.
+     */
+    private static boolean isNumberOrCharacterType(Class<?> type) {
+        return type == Integer.class || type == Long.class || type == Double.class || type == Character.class ||
+                type == Short.class || type == Byte.class || type == Float.class || type == BigDecimal.class ||
+                type == BigInteger.class;
+    }
+
+    /*
+     * Determines whether the String would be accepted by the valueOf() method or constructor used to coerce it to the
+     * given number or character type.
+     */
+    private static boolean isNumberString(String s, Class<?> type) {
+        if (s.isEmpty() || type == Character.class) {
+            // An empty String is coerced to zero and any other String to its first character
+            return true;
+        }
+        if (type == Double.class || type == Float.class) {
+            return isFloatingPointString(s.trim());
+        }
+        if (type == BigDecimal.class) {
+            return isDecimalString(s, 0, true);
+        }
+
+        int start = s.charAt(0) == '-' || s.charAt(0) == '+' ? 1 : 0;
+        if (skipDigits(s, start, 10) != s.length() || start == s.length()) {
+            return false;
+        }
+        if (type == BigInteger.class) {
+            return true;
+        }
+
+        BigInteger value = new BigInteger(s);
+        if (type == Long.class) {
+            return value.bitLength() < Long.SIZE;
+        } else if (type == Integer.class) {
+            return value.bitLength() < Integer.SIZE;
+        } else if (type == Short.class) {
+            return value.bitLength() < Short.SIZE;
+        } else {
+            return value.bitLength() < Byte.SIZE;
+        }
+    }
+
+    /*
+     * The format accepted by Double.valueOf() for a trimmed String.
+     */
+    private static boolean isFloatingPointString(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0x7f) {
+                // Unlike the other conversions, only ASCII digits are accepted
+                return false;
+            }
+        }
+        int start = !s.isEmpty() && (s.charAt(0) == '-' || s.charAt(0) == '+') ? 1 : 0;
+        String unsigned = s.substring(start);
+        if (unsigned.equals("NaN") || unsigned.equals("Infinity")) {
+            return true;
+        }
+        int end = s.length();
+        if (end > start && "fFdD".indexOf(s.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        if (unsigned.startsWith("0x") || unsigned.startsWith("0X")) {
+            // Hexadecimal significand with a mandatory binary exponent
+            int pos = start + 2;
+            int digitsEnd = skipDigits(s, pos, 16);
+            int fractionEnd = digitsEnd;
+            if (digitsEnd < end && s.charAt(digitsEnd) == '.') {
+                fractionEnd = skipDigits(s, digitsEnd + 1, 16);
+            }
+            if (fractionEnd - pos == (fractionEnd > digitsEnd ? 1 : 0) || fractionEnd >= end ||
+                    (s.charAt(fractionEnd) != 'p' && s.charAt(fractionEnd) != 'P')) {
+                return false;
+            }
+            return isExponent(s.substring(0, end), fractionEnd + 1, 0, false);
+        }
+        return isDecimalString(s.substring(0, end), start, false);
+    }
+
+    /*
+     * The decimal format accepted by the BigDecimal constructor or, if bigDecimal is false, by Double.valueOf() from the
+     * given position.
+     */
+    private static boolean isDecimalString(String s, int start, boolean bigDecimal) {
+        if (start == 0 && !s.isEmpty() && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+            start = 1;
+        }
+        int digitsEnd = skipDigits(s, start, 10);
+        int fractionEnd = digitsEnd;
+        if (digitsEnd < s.length() && s.charAt(digitsEnd) == '.') {
+            fractionEnd = skipDigits(s, digitsEnd + 1, 10);
+        }
+        if (fractionEnd - start == (fractionEnd > digitsEnd ? 1 : 0)) {
+            // No digits
+            return false;
+        }
+        if (fractionEnd == s.length()) {
+            return true;
+        }
+        if (s.charAt(fractionEnd) != 'e' && s.charAt(fractionEnd) != 'E') {
+            return false;
+        }
+        int fractionDigits = fractionEnd > digitsEnd ? fractionEnd - digitsEnd - 1 : 0;
+        return isExponent(s, fractionEnd + 1, fractionDigits, bigDecimal);
+    }
+
+    /*
+     * BigDecimal also rejects an exponent with more than ten significant digits or that leads to a scale that does not
+     * fit in an int.
+     */
+    private static boolean isExponent(String s, int start, int fractionDigits, boolean bigDecimal) {
+        boolean negative = start < s.length() && s.charAt(start) == '-';
+        if (start < s.length() && (negative || s.charAt(start) == '+')) {
+            start++;
+        }
+        if (start == s.length() || skipDigits(s, start, 10) != s.length()) {
+            return false;
+        }
+        if (!bigDecimal) {
+            return true;
+        }
+        while (start < s.length() - 1 && s.charAt(start) == '0') {
+            start++;
+        }
+        if (s.length() - start > 10) {
+            return false;
+        }
+        long exponent = Long.parseLong(s.substring(start));
+        if (negative) {
+            exponent = -exponent;
+        }
+        long scale = fractionDigits - exponent;
+        return scale >= Integer.MIN_VALUE && scale <= Integer.MAX_VALUE;
+    }
+
+    private static int skipDigits(String s, int start, int radix) {
+        int pos = start;
+        while (pos < s.length() && Character.digit(s.charAt(pos), radix) >= 0) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isEnumConstant(String s, Class<?> type) {
+        if (s.isEmpty()) {
+            // An empty String is coerced to null
+            return true;
+        }
+        for (Object constant : type.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(s)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * An interface with a single abstract method, other than the public methods of Object.
+     */
+    private static boolean isFunctionalInterface(Class<?> type) {
+        if (!type.isInterface()) {
+            return false;
+        }
+        int abstractMethods = 0;
+        for (Method method : type.getMethods()) {
+            if (Modifier.isAbstract(method.getModifiers()) && !isObjectMethod(method)) {
+                abstractMethods++;
+            }
+        }
+        return abstractMethods == 1;
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        Class<?>[] paramTypes = method.getParameterTypes();
+        switch (method.getName()) {
+            case "equals":
+                return paramTypes.length == 1 && paramTypes[0] == Object.class;
+            case "hashCode":
+            case "toString":
+                return paramTypes.length == 0;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Retrieves an ELResolver that implements the operations in collections.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2023 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -22,40 +22,63 @@ import static java.io.File.separator;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 class FactoryFinder {
 
+    /*
+     * The outcome of provider discovery for each thread context class loader. The map is weakly keyed and the provider
+     * classes are weakly referenced so that the cache does not prevent a class loader from being garbage collected.
+     */
+    private static final Map<ClassLoader, ProviderCache> CACHES = new WeakHashMap<>();
+
+    /*
+     * The constructors used to create instances of each provider class.
+     */
+    private static final ClassValue<ProviderConstructors> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected ProviderConstructors computeValue(Class<?> type) {
+            return new ProviderConstructors(type);
+        }
+    };
+
+    /*
+     * The contents of $java.home/lib/el.properties, read on first use.
+     */
+    private static volatile Properties javaHomeProperties;
+
     /**
      * Creates an instance of the specified class using the specified <code>ClassLoader</code> object.
      *
      * @exception ELException if the given class could not be found or could not be instantiated
      */
-    private static Object newInstance(String className, ClassLoader classLoader, Properties properties) {
+    private static Object newInstance(String className, ClassLoader classLoader, ProviderCache cache, Properties properties) {
         try {
-            Class<?> spiClass;
-            if (classLoader == null) {
-                spiClass = Class.forName(className);
-            } else {
-                spiClass = classLoader.loadClass(className);
-            }
-
-            if (properties != null) {
-                Constructor<?> constr = null;
-                try {
-                    constr = spiClass.getConstructor(Properties.class);
-                } catch (Exception ex) {
+            Class<?> spiClass = cache.getClass(className);
+            if (spiClass == null) {
+                if (classLoader == null) {
+                    spiClass = Class.forName(className);
+                } else {
+                    spiClass = classLoader.loadClass(className);
                 }
+                cache.putClass(className, spiClass);
+            }
 
-                if (constr != null) {
-                    return constr.newInstance(properties);
-                }
+            ProviderConstructors constructors = CONSTRUCTORS.get(spiClass);
+            if (properties != null && constructors.propertiesConstructor != null) {
+                return constructors.propertiesConstructor.newInstance(properties);
             }
 
-            return spiClass.getDeclaredConstructor().newInstance();
+            return constructors.newInstance();
 
         } catch (ClassNotFoundException x) {
             throw new ELException("Provider " + className + " not found", x);
@@ -74,6 +97,11 @@ class FactoryFinder {
      * </ol>
      * This method is package private so that this code can be shared.
      *
+     * <p>
+     * The outcome of the {@link ServiceLoader} lookup, the contents of the property file and the loaded implementation
+     * classes are cached for each thread context class loader. A new instance is created for every call. Use
+     * {@link #clearCache(ClassLoader)} if the available implementations change.
+     *
      * @return the <code>Class</code> object of the specified message factory; may not be <code>null</code>
      *
      * @param serviceClass The class to use when searching for the factory using the ServiceLoader mechanism
@@ -90,24 +118,26 @@ class FactoryFinder {
             throw new ELException(x.toString(), x);
         }
 
+        ProviderCache cache = getProviderCache(classLoader);
+
         // try to find services in CLASSPATH
-        try {
-            ServiceLoader<?> serviceLoader = ServiceLoader.load(serviceClass, classLoader);
-            Iterator<?> iter = serviceLoader.iterator();
-            while (iter.hasNext()) {
-                Object service = iter.next();
-                if (service != null) {
-                    return service;
-                }
+        Object service = cache.newServiceInstance(serviceClass);
+        if (service != null) {
+            return service;
+        }
+        if (!cache.isNoService(serviceClass)) {
+            service = loadService(serviceClass, classLoader);
+            cache.putService(serviceClass, service);
+            if (service != null) {
+                return service;
             }
-        } catch (Exception ex) {
         }
 
         // Try to read from $java.home/lib/el.properties
         try {
             String factoryClassName = getFactoryClassName(factoryId);
             if (factoryClassName != null) {
-                return newInstance(factoryClassName, classLoader, properties);
+                return newInstance(factoryClassName, classLoader, cache, properties);
             }
         } catch (Exception ex) {
         }
@@ -115,29 +145,176 @@ class FactoryFinder {
         // Use the system property
         String systemProp = System.getProperty(factoryId);
         if (systemProp != null) {
-            return newInstance(systemProp, classLoader, properties);
+            return newInstance(systemProp, classLoader, cache, properties);
         }
 
         if (fallbackClassName == null) {
             throw new ELException("Provider for " + factoryId + " cannot be found", null);
         }
 
-        return newInstance(fallbackClassName, classLoader, properties);
+        return newInstance(fallbackClassName, classLoader, cache, properties);
+    }
+
+    /*
+     * Clears the cached outcome of provider discovery for the given class loader.
+     */
+    static void clearCache(ClassLoader classLoader) {
+        synchronized (CACHES) {
+            CACHES.remove(classLoader);
+        }
+    }
+
+    /*
+     * Clears the cached outcome of all provider discovery.
+     */
+    static void clearCache() {
+        synchronized (CACHES) {
+            CACHES.clear();
+        }
+        javaHomeProperties = null;
+    }
+
+    private static ProviderCache getProviderCache(ClassLoader classLoader) {
+        synchronized (CACHES) {
+            return CACHES.computeIfAbsent(classLoader, k -> new ProviderCache());
+        }
+    }
+
+    private static Object loadService(Class<?> serviceClass, ClassLoader classLoader) {
+        try {
+            ServiceLoader<?> serviceLoader = ServiceLoader.load(serviceClass, classLoader);
+            Iterator<?> iter = serviceLoader.iterator();
+            while (iter.hasNext()) {
+                Object service = iter.next();
+                if (service != null) {
+                    return service;
+                }
+            }
+        } catch (Exception ex) {
+        }
+        return null;
     }
 
     private static String getFactoryClassName(String factoryId) {
-      String factoryClass = null;
-      String javah = System.getProperty("java.home");
-      String configFileName = javah + separator + "lib" + separator + "el.properties";
-
-      File configFile = new File(configFileName);
-      if (configFile.exists()) {
-          Properties props = new Properties();
-          try {
-              props.load(new FileInputStream(configFile));
-          } catch(Exception e) {}
-          factoryClass = props.getProperty(factoryId);
-      }
-      return factoryClass;
+        Properties props = javaHomeProperties;
+        if (props == null) {
+            props = new Properties();
+            String javah = System.getProperty("java.home");
+            String configFileName = javah + separator + "lib" + separator + "el.properties";
+
+            File configFile = new File(configFileName);
+            if (configFile.exists()) {
+                try (FileInputStream in = new FileInputStream(configFile)) {
+                    props.load(in);
+                } catch (Exception e) {
+                }
+            }
+            javaHomeProperties = props;
+        }
+        return props.getProperty(factoryId);
+    }
+
+    /*
+     * The outcome of provider discovery for a single class loader.
+     */
+    private static final class ProviderCache {
+
+        /*
+         * Marks a service class for which the ServiceLoader found no implementation.
+         */
+        private static final WeakReference<Class<?>> NO_SERVICE = new WeakReference<>(null);
+
+        private final Map<Class<?>, WeakReference<Class<?>>> services = new ConcurrentHashMap<>();
+        private final Map<String, WeakReference<Class<?>>> classes = new ConcurrentHashMap<>();
+
+        Object newServiceInstance(Class<?> serviceClass) {
+            WeakReference<Class<?>> ref = services.get(serviceClass);
+            if (ref == null || ref == NO_SERVICE) {
+                return null;
+            }
+            Class<?> providerClass = ref.get();
+            if (providerClass == null) {
+                return null;
+            }
+            try {
+                return CONSTRUCTORS.get(providerClass).newInstance();
+            } catch (Exception ex) {
+                // Treat as if the ServiceLoader failed, as it would have done
+                return null;
+            }
+        }
+
+        boolean isNoService(Class<?> serviceClass) {
+            return services.get(serviceClass) == NO_SERVICE;
+        }
+
+        /*
+         * Providers that are created by a static provider() method rather than a constructor are not cached so they are
+         * always obtained via the ServiceLoader.
+         */
+        void putService(Class<?> serviceClass, Object service) {
+            if (service == null) {
+                services.put(serviceClass, NO_SERVICE);
+            } else if (CONSTRUCTORS.get(service.getClass()).isServiceLoaderCompatible()) {
+                services.put(serviceClass, new WeakReference<>(service.getClass()));
+            }
+        }
+
+        Class<?> getClass(String className) {
+            WeakReference<Class<?>> ref = classes.get(className);
+            return ref == null ? null : ref.get();
+        }
+
+        void putClass(String className, Class<?> c) {
+            classes.put(className, new WeakReference<>(c));
+        }
+    }
+
+    /*
+     * The constructors of a provider class.
+     */
+    private static final class ProviderConstructors {
+
+        private final Class<?> type;
+        private final Constructor<?> constructor;
+        private final Constructor<?> propertiesConstructor;
+        private final boolean hasProviderMethod;
+
+        ProviderConstructors(Class<?> type) {
+            this.type = type;
+            Constructor<?> c;
+            try {
+                c = type.getDeclaredConstructor();
+            } catch (Exception ex) {
+                c = null;
+            }
+            constructor = c;
+            try {
+                c = type.getConstructor(Properties.class);
+            } catch (Exception ex) {
+                c = null;
+            }
+            propertiesConstructor = c;
+            boolean providerMethod = false;
+            try {
+                Method m = type.getMethod("provider");
+                providerMethod = Modifier.isStatic(m.getModifiers());
+            } catch (Exception ex) {
+            }
+            hasProviderMethod = providerMethod;
+        }
+
+        Object newInstance() throws ReflectiveOperationException {
+            if (constructor == null) {
+                // Generate the same exception as Class.getDeclaredConstructor()
+                return type.getDeclaredConstructor().newInstance();
+            }
+            return constructor.newInstance();
+        }
+
+        boolean isServiceLoaderCompatible() {
+            return constructor != null && Modifier.isPublic(constructor.getModifiers())
+                    && Modifier.isPublic(type.getModifiers()) && !hasProviderMethod;
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2025 Oracle and/or its affiliates and others.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -20,24 +20,33 @@ import static java.lang.reflect.Modifier.isAbstract;
 import static java.lang.reflect.Modifier.isInterface;
 import static java.lang.reflect.Modifier.isPublic;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Handles imports of class names and package names. An imported package name implicitly imports all the classes in the
  * package. A class that has been imported can be used without its package name. The name is resolved to its full
  * (package and class) name at evaluation time.
+ *
+ * <p>
+ * The outcome of looking up a full class name, including the outcome that no such class exists, is shared between all
+ * <code>ImportHandler</code> instances that use the same thread context class loader so that a new
+ * <code>ImportHandler</code> does not need to repeat class loading attempts that have already been made. The shared
+ * outcomes may be discarded with {@link #clearClassCache(ClassLoader)}.
+ * </p>
  */
 public class ImportHandler {
 
-    private Map<String, String> classNameMap = new HashMap<>();
-    private Map<String, Class<?>> classMap = new HashMap<>();
-    private Map<String, String> staticNameMap = new HashMap<>();
-    private HashSet<String> notAClass = new HashSet<>();
-    private List<String> packages = new ArrayList<>();
+    private Map<String, String> classNameMap = new ConcurrentHashMap<>();
+    private Map<String, Class<?>> classMap = new ConcurrentHashMap<>();
+    private Map<String, String> staticNameMap = new ConcurrentHashMap<>();
+    private List<String> packages = new CopyOnWriteArrayList<>();
 
     {
         importPackage("java.lang");
@@ -96,6 +105,11 @@ public class ImportHandler {
      * @throws ELException if the class is abstract or is an interface, or not public.
      */
     public Class<?> resolveClass(String name) {
+        // The name map does not support null keys
+        if (name == null) {
+            return null;
+        }
+
         String className = classNameMap.get(name);
         if (className != null) {
             return resolveClassFor(className);
@@ -122,6 +136,11 @@ public class ImportHandler {
      * @throws ELException if the class is not public, or is abstract or is an interface.
      */
     public Class<?> resolveStatic(String name) {
+        // The name map does not support null keys
+        if (name == null) {
+            return null;
+        }
+
         String className = staticNameMap.get(name);
         if (className != null) {
             Class<?> c = resolveClassFor(className);
@@ -133,52 +152,84 @@ public class ImportHandler {
         return null;
     }
 
+    /**
+     * Clears the shared outcome of class look-ups made with the given thread context class loader.
+     *
+     * <p>
+     * This method should be called when the classes visible to a class loader change, for example when classes are
+     * added to a class loader after an expression referred to a class name that could not be found.
+     * </p>
+     *
+     * @param classLoader The thread context class loader for which the outcome of class look-ups should be cleared
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public static void clearClassCache(ClassLoader classLoader) {
+        ClassCache.clear(classLoader);
+    }
+
+    /**
+     * Clears the shared outcome of class look-ups for all class loaders.
+     *
+     * @see #clearClassCache(ClassLoader)
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public static void clearClassCache() {
+        ClassCache.clear();
+    }
+
     private Class<?> resolveClassFor(String className) {
         Class<?> c = classMap.get(className);
         if (c != null) {
             return c;
         }
 
-        c = getClassFor(className);
-        if (c != null) {
-            checkModifiers(c.getModifiers());
-            classMap.put(className, c);
-            return c;
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ClassCache classCache = ClassCache.forClassLoader(classLoader);
+        if (classCache.isNotAClass(className)) {
+            return null;
         }
 
-        // Might be an inner class
-        StringBuilder sb = new StringBuilder(className);
-        int replacementPosition = sb.lastIndexOf(".");
-        while (replacementPosition > -1) {
-            sb.setCharAt(replacementPosition, '$');
-            c = getClassFor(sb.toString());
-            if (c != null) {
-                checkModifiers(c.getModifiers());
-                classMap.put(sb.toString(), c);
-                break;
+        c = classCache.getClass(className);
+        if (c == null) {
+            c = getClassFor(className, classLoader);
+            if (c == null) {
+                // Might be an inner class
+                StringBuilder sb = new StringBuilder(className);
+                int replacementPosition = sb.lastIndexOf(".");
+                while (replacementPosition > -1) {
+                    sb.setCharAt(replacementPosition, '$');
+                    c = getClassFor(sb.toString(), classLoader);
+                    if (c != null) {
+                        break;
+                    }
+                    replacementPosition = sb.lastIndexOf(".", replacementPosition);
+                }
             }
-            replacementPosition = sb.lastIndexOf(".", replacementPosition);
-        }
 
-        if (c == null) {
-            notAClass.add(className);
+            if (c == null) {
+                classCache.addNotAClass(className);
+                return null;
+            }
+            classCache.putClass(className, c);
         }
 
+        checkModifiers(c.getModifiers());
+        classMap.put(className, c);
         return c;
     }
 
-    private Class<?> getClassFor(String className) {
-        if (!notAClass.contains(className)) {
-            try {
-                return Class.forName(className, false, Thread.currentThread().getContextClassLoader());
-                // Some operating systems have case-insensitive path names. An example is Windows if className is
-                // attempting to be resolved from a wildcard import a java.lang.NoClassDefFoundError may be thrown as
-                // the expected case for the type likely doesn't match. See
-                // https://bugs.java.com/bugdatabase/view_bug.do?bug_id=8024775 and
-                // https://bugs.openjdk.java.net/browse/JDK-8133522.
-            } catch (ClassNotFoundException | NoClassDefFoundError ex) {
-                // Ignore
-            }
+    private Class<?> getClassFor(String className, ClassLoader classLoader) {
+        try {
+            return Class.forName(className, false, classLoader);
+            // Some operating systems have case-insensitive path names. An example is Windows if className is
+            // attempting to be resolved from a wildcard import a java.lang.NoClassDefFoundError may be thrown as
+            // the expected case for the type likely doesn't match. See
+            // https://bugs.java.com/bugdatabase/view_bug.do?bug_id=8024775 and
+            // https://bugs.openjdk.java.net/browse/JDK-8133522.
+        } catch (ClassNotFoundException | NoClassDefFoundError ex) {
+            // Ignore
         }
 
         return null;
@@ -189,4 +240,114 @@ public class ImportHandler {
             throw new ELException("Imported class must be public, and cannot be abstract or an interface");
         }
     }
+
+    /*
+     * The outcome of class look-ups for a single class loader, shared by all ImportHandler instances. Classes are
+     * weakly referenced and the caches are weakly keyed by class loader identity so that the cache does not prevent a
+     * class loader from being garbage collected. Look-ups do not lock. The entries of collected class loaders are
+     * removed when a further class loader is added.
+     */
+    private static final class ClassCache {
+
+        /*
+         * Limits the memory used if expressions contain many distinct identifiers that are not class names. Once the
+         * limit is reached further misses are not recorded but remain correct.
+         */
+        private static final int MAX_NOT_A_CLASS = 4096;
+
+        private static final Map<LoaderKey, ClassCache> CACHES = new ConcurrentHashMap<>();
+
+        private static final ReferenceQueue<ClassLoader> COLLECTED_LOADERS = new ReferenceQueue<>();
+
+        /*
+         * A null (bootstrap) class loader can't be weakly referenced so it has its own cache.
+         */
+        private static volatile ClassCache bootstrapCache = new ClassCache();
+
+        private final Map<String, WeakReference<Class<?>>> classes = new ConcurrentHashMap<>();
+        private final Set<String> notAClass = ConcurrentHashMap.newKeySet();
+
+        static ClassCache forClassLoader(ClassLoader classLoader) {
+            if (classLoader == null) {
+                return bootstrapCache;
+            }
+
+            ClassCache classCache = CACHES.get(new LoaderKey(classLoader, null));
+            if (classCache == null) {
+                Reference<? extends ClassLoader> collected;
+                while ((collected = COLLECTED_LOADERS.poll()) != null) {
+                    CACHES.remove(collected);
+                }
+                classCache = new ClassCache();
+                ClassCache existing = CACHES.putIfAbsent(new LoaderKey(classLoader, COLLECTED_LOADERS), classCache);
+                if (existing != null) {
+                    classCache = existing;
+                }
+            }
+            return classCache;
+        }
+
+        static void clear(ClassLoader classLoader) {
+            if (classLoader == null) {
+                bootstrapCache = new ClassCache();
+            } else {
+                CACHES.remove(new LoaderKey(classLoader, null));
+            }
+        }
+
+        static void clear() {
+            bootstrapCache = new ClassCache();
+            CACHES.clear();
+        }
+
+        Class<?> getClass(String className) {
+            WeakReference<Class<?>> ref = classes.get(className);
+            return ref == null ? null : ref.get();
+        }
+
+        void putClass(String className, Class<?> c) {
+            classes.put(className, new WeakReference<>(c));
+        }
+
+        boolean isNotAClass(String className) {
+            return notAClass.contains(className);
+        }
+
+        void addNotAClass(String className) {
+            if (notAClass.size() < MAX_NOT_A_CLASS) {
+                notAClass.add(className);
+            }
+        }
+    }
+
+
+    /*
+     * A weak reference to a class loader that is equal to any other key for the same class loader instance.
+     */
+    private static final class LoaderKey extends WeakReference<ClassLoader> {
+
+        private final int hashCode;
+
+        LoaderKey(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+            super(classLoader, queue);
+            hashCode = System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof LoaderKey)) {
+                return false;
+            }
+            ClassLoader classLoader = get();
+            return classLoader != null && classLoader == ((LoaderKey) obj).get();
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates and others.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -49,6 +49,7 @@ import java.util.Map;
 public class LambdaExpression {
 
     private List<String> formalParameters = new ArrayList<>();
+    private String[] parameterNames;
     private ValueExpression expression;
     private ELContext context;
     // Arguments from nesting lambdas, when the body is another lambda
@@ -62,6 +63,7 @@ public class LambdaExpression {
      */
     public LambdaExpression(List<String> formalParameters, ValueExpression expression) {
         this.formalParameters = formalParameters;
+        this.parameterNames = formalParameters.toArray(new String[0]);
         this.expression = expression;
         this.envirArgs = new HashMap<>();
     }
@@ -98,38 +100,43 @@ public class LambdaExpression {
      * @throws NullPointerException is elContext is null
      */
     public Object invoke(ELContext elContext, Object... args) throws ELException {
-        int i = 0;
-        Map<String, Object> lambdaArgs = new HashMap<>();
-
-        // First get arguments injected from the outter lambda, if any
-        lambdaArgs.putAll(envirArgs);
-
-        for (String fParam : formalParameters) {
-            if (i >= args.length) {
-                throw new ELException("Expected Argument " + fParam + " missing in Lambda Expression");
-            }
-            lambdaArgs.put(fParam, args[i++]);
+        if (args.length < parameterNames.length) {
+            throw new ELException("Expected Argument " + parameterNames[args.length] + " missing in Lambda Expression");
         }
 
-        elContext.enterLambdaScope(lambdaArgs);
+        // Arguments injected from the outer lambda, if any, are in a scope below the actual arguments so the actual
+        // arguments take precedence
+        boolean hasEnvirArgs = !envirArgs.isEmpty();
+        if (hasEnvirArgs) {
+            elContext.enterLambdaScope(envirArgs);
+        }
         try {
-            Object ret = expression.getValue(elContext);
+            elContext.enterLambdaScope(parameterNames, args);
+            try {
+                Object ret = expression.getValue(elContext);
 
-            // If the result of evaluating the body is another LambdaExpression,
-            // whose body has not been evaluated yet. (A LambdaExpression is
-            // evaluated iff when its invoke method is called.) The current lambda
-            // arguments may be needed in that body when it is evaluated later,
-            // after the current lambda exits. To make these arguments available
-            // then, they are injected into it.
-            if (ret instanceof LambdaExpression) {
-                ((LambdaExpression) ret).envirArgs.putAll(lambdaArgs);
+                // If the result of evaluating the body is another LambdaExpression,
+                // whose body has not been evaluated yet. (A LambdaExpression is
+                // evaluated iff when its invoke method is called.) The current lambda
+                // arguments may be needed in that body when it is evaluated later,
+                // after the current lambda exits. To make these arguments available
+                // then, they are injected into it.
+                if (ret instanceof LambdaExpression) {
+                    Map<String, Object> retEnvirArgs = ((LambdaExpression) ret).envirArgs;
+                    retEnvirArgs.putAll(envirArgs);
+                    for (int i = 0; i < parameterNames.length; i++) {
+                        retEnvirArgs.put(parameterNames[i], args[i]);
+                    }
+                }
+                return ret;
+            } finally {
+                elContext.exitLambdaScope();
             }
-            return ret;
         } finally {
-            elContext.exitLambdaScope();
+            if (hasEnvirArgs) {
+                elContext.exitLambdaScope();
+            }
         }
-
-
     }
 
     /**
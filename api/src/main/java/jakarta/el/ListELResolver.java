@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -144,12 +144,51 @@ public class ListELResolver extends ELResolver {
      */
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
+        Object value = lookupValue(context, base, property, true);
+        if (value == NOT_RESOLVED) {
+            return null;
+        }
+        return value;
+    }
+
+    /**
+     * If the base object is a list, returns the value at the given index, as {@link #getValue} does, without using the
+     * <code>propertyResolved</code> property of the <code>ELContext</code>.
+     *
+     * @param context The context of this evaluation.
+     * @param base The list to be analyzed. Only bases of type <code>List</code> are handled by this resolver.
+     * @param property The index of the value to be returned. Will be coerced into an integer.
+     * @return The value at the given index, <code>null</code> if the index is out of bounds or {@link #NOT_RESOLVED} if
+     * the base is not a <code>List</code>
+     * @throws IllegalArgumentException if the property could not be coerced into an integer.
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws ELException if an exception was thrown while performing the property or variable resolution. The thrown
+     * exception must be included as the cause property of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Object resolveValue(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(ListELResolver.class)) {
+            return super.resolveValue(context, base, property);
+        }
+        return lookupValue(context, base, property, false);
+    }
+
+    /*
+     * With resolve set the property is resolved even if the index can't be converted to an int.
+     */
+    private Object lookupValue(ELContext context, Object base, Object property, boolean resolve) {
         if (context == null) {
             throw new NullPointerException();
         }
 
         if (base != null && base instanceof List) {
-            context.setPropertyResolved(base, property);
+            if (resolve) {
+                context.setPropertyResolved(base, property);
+            } else {
+                context.notifyPropertyResolved(base, property);
+            }
             List<?> list = (List<?>) base;
             int index = toInteger(property);
             if (index < 0 || index >= list.size()) {
@@ -159,7 +198,7 @@ public class ListELResolver extends ELResolver {
             return list.get(index);
         }
 
-        return null;
+        return NOT_RESOLVED;
     }
 
     /**
@@ -307,6 +346,23 @@ public class ListELResolver extends ELResolver {
         return null;
     }
 
+    /**
+     * Returns the types of non-<code>null</code> base object for which this resolver may resolve a (base, property)
+     * pair or a (base, method) pair.
+     *
+     * <p>
+     * This resolver only handles bases of type <code>List</code>.
+     * </p>
+     *
+     * @return <code>List.class</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Class<?>[] getBaseTypes() {
+        return new Class<?>[] { List.class };
+    }
+
     private int toInteger(Object p) {
         if (p instanceof Integer) {
             return ((Integer) p).intValue();
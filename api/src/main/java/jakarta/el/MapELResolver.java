@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -140,17 +140,54 @@ public class MapELResolver extends ELResolver {
      */
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
+        Object value = lookupValue(context, base, property, true);
+        if (value == NOT_RESOLVED) {
+            return null;
+        }
+        return value;
+    }
+
+    /**
+     * If the base object is a map, returns the value associated with the given key, as {@link #getValue} does, without
+     * using the <code>propertyResolved</code> property of the <code>ELContext</code>.
+     *
+     * @param context The context of this evaluation.
+     * @param base The map to be analyzed. Only bases of type <code>Map</code> are handled by this resolver.
+     * @param property The key whose associated value is to be returned.
+     * @return The value associated with the given key or {@link #NOT_RESOLVED} if the base is not a <code>Map</code>
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws ELException if an exception was thrown while performing the property or variable resolution. The thrown
+     * exception must be included as the cause property of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Object resolveValue(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(MapELResolver.class)) {
+            return super.resolveValue(context, base, property);
+        }
+        return lookupValue(context, base, property, false);
+    }
+
+    /*
+     * With resolve set the property is resolved before the map is read so that it remains resolved if get() throws.
+     */
+    private Object lookupValue(ELContext context, Object base, Object property, boolean resolve) {
         if (context == null) {
             throw new NullPointerException();
         }
 
         if (base != null && base instanceof Map) {
-            context.setPropertyResolved(base, property);
+            if (resolve) {
+                context.setPropertyResolved(base, property);
+            } else {
+                context.notifyPropertyResolved(base, property);
+            }
             Map<?, ?> map = (Map<?, ?>) base;
             return map.get(property);
         }
 
-        return null;
+        return NOT_RESOLVED;
     }
 
     /**
@@ -279,4 +316,60 @@ public class MapELResolver extends ELResolver {
         return null;
     }
 
+    /**
+     * Returns the types of non-<code>null</code> base object for which this resolver may resolve a (base, property)
+     * pair or a (base, method) pair.
+     *
+     * <p>
+     * This resolver only handles bases of type <code>Map</code>.
+     * </p>
+     *
+     * @return <code>Map.class</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Class<?>[] getBaseTypes() {
+        return new Class<?>[] { Map.class };
+    }
+
+    /**
+     * If the base object is a map, returns an accessor that reads the value associated with the given key from maps of
+     * the same class as the base.
+     *
+     * @param context The context of this evaluation.
+     * @param base The map whose value is to be read. Only bases of type <code>Map</code> are handled by this resolver.
+     * @param property The key whose associated value is to be read.
+     * @return An accessor for the key or <code>null</code> if the base is not a <code>Map</code>
+     * @throws NullPointerException if context is <code>null</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public PropertyAccessor getPropertyAccessor(ELContext context, Object base, Object property) {
+        if (context == null) {
+            throw new NullPointerException();
+        }
+
+        if (base instanceof Map && isGetValueDeclaredBy(MapELResolver.class)) {
+            return new MapPropertyAccessor(base.getClass(), property);
+        }
+
+        return null;
+    }
+
+
+    private static final class MapPropertyAccessor extends PropertyAccessor {
+
+        MapPropertyAccessor(Class<?> baseClass, Object property) {
+            super(baseClass, property);
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base) {
+            Object property = getProperty();
+            context.setPropertyResolved(base, property);
+            return ((Map<?, ?>) base).get(property);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2024, 2026 Contributors to the Eclipse Foundation
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -15,7 +15,7 @@
  */
 package jakarta.el;
 
-import static jakarta.el.ELUtil.getExceptionMessageString;
+import static jakarta.el.ELUtil.getLazyExceptionMessage;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -108,7 +108,7 @@ public class OptionalELResolver extends ELResolver {
         Objects.requireNonNull(context);
 
         if (base instanceof Optional) {
-            throw new PropertyNotWritableException(getExceptionMessageString(
+            throw new PropertyNotWritableException(getLazyExceptionMessage(
                     context, "resolverNotwritable", new Object[] { base.getClass().getName() }));
         }
     }
@@ -151,6 +151,23 @@ public class OptionalELResolver extends ELResolver {
         return null;
     }
 
+    /**
+     * Returns the types of non-<code>null</code> base object for which this resolver may resolve a (base, property)
+     * pair or a (base, method) pair.
+     *
+     * <p>
+     * This resolver only handles bases of type <code>Optional</code>.
+     * </p>
+     *
+     * @return <code>Optional.class</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Class<?>[] getBaseTypes() {
+        return new Class<?>[] { Optional.class };
+    }
+
 
     /**
      * {@inheritDoc}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Method;
+
+/*
+ * MethodHandles that read a primitive value from a public method without parameters without boxing it. A handle for a
+ * primitive type is only provided if the return type of the method is the same primitive type or may be widened to it
+ * with the same result as the coercion of the boxed value. Otherwise callers must read and coerce the boxed value.
+ *
+ * The handles are created when first used. MethodHandles are immutable and are safely published via volatile fields.
+ */
+final class PrimitiveReadHandles {
+
+    private static final MethodType BOOLEAN_TYPE = MethodType.methodType(boolean.class, Object.class);
+    private static final MethodType INT_TYPE = MethodType.methodType(int.class, Object.class);
+    private static final MethodType LONG_TYPE = MethodType.methodType(long.class, Object.class);
+    private static final MethodType DOUBLE_TYPE = MethodType.methodType(double.class, Object.class);
+
+    private static final MethodHandle NO_METHOD_HANDLE = MethodHandles.zero(Object.class);
+
+    private final Method method;
+    private volatile MethodHandle booleanHandle;
+    private volatile MethodHandle intHandle;
+    private volatile MethodHandle longHandle;
+    private volatile MethodHandle doubleHandle;
+
+    private PrimitiveReadHandles(Method method) {
+        this.method = method;
+    }
+
+    /*
+     * Returns null if the method is null or does not return a primitive that may be read without boxing.
+     */
+    static PrimitiveReadHandles of(Method method) {
+        if (method == null) {
+            return null;
+        }
+        Class<?> returnType = method.getReturnType();
+        // Characters are coerced to numbers via short so widening would give a different result
+        if (!returnType.isPrimitive() || returnType == void.class || returnType == char.class) {
+            return null;
+        }
+        return new PrimitiveReadHandles(method);
+    }
+
+    MethodHandle getBooleanHandle() {
+        MethodHandle handle = booleanHandle;
+        if (handle == null) {
+            handle = toMethodHandle(BOOLEAN_TYPE);
+            booleanHandle = handle;
+        }
+        return handle == NO_METHOD_HANDLE ? null : handle;
+    }
+
+    MethodHandle getIntHandle() {
+        MethodHandle handle = intHandle;
+        if (handle == null) {
+            handle = toMethodHandle(INT_TYPE);
+            intHandle = handle;
+        }
+        return handle == NO_METHOD_HANDLE ? null : handle;
+    }
+
+    MethodHandle getLongHandle() {
+        MethodHandle handle = longHandle;
+        if (handle == null) {
+            handle = toMethodHandle(LONG_TYPE);
+            longHandle = handle;
+        }
+        return handle == NO_METHOD_HANDLE ? null : handle;
+    }
+
+    MethodHandle getDoubleHandle() {
+        MethodHandle handle = doubleHandle;
+        if (handle == null) {
+            handle = toMethodHandle(DOUBLE_TYPE);
+            doubleHandle = handle;
+        }
+        return handle == NO_METHOD_HANDLE ? null : handle;
+    }
+
+    /*
+     * Exceptions thrown by the method are wrapped in an ELException, as they are when the boxed value is read.
+     */
+    static boolean readBoolean(MethodHandle handle, Object base) {
+        try {
+            return (boolean) handle.invokeExact(base);
+        } catch (Throwable t) {
+            throw new ELException(t);
+        }
+    }
+
+    static int readInt(MethodHandle handle, Object base) {
+        try {
+            return (int) handle.invokeExact(base);
+        } catch (Throwable t) {
+            throw new ELException(t);
+        }
+    }
+
+    static long readLong(MethodHandle handle, Object base) {
+        try {
+            return (long) handle.invokeExact(base);
+        } catch (Throwable t) {
+            throw new ELException(t);
+        }
+    }
+
+    static double readDouble(MethodHandle handle, Object base) {
+        try {
+            return (double) handle.invokeExact(base);
+        } catch (Throwable t) {
+            throw new ELException(t);
+        }
+    }
+
+    private MethodHandle toMethodHandle(MethodType methodType) {
+        try {
+            // Only widening primitive conversions are permitted by asType() so narrowing conversions are rejected
+            return MethodHandles.publicLookup().unreflect(method).asType(methodType);
+        } catch (IllegalAccessException | WrongMethodTypeException e) {
+            // Fall back to reading the boxed value
+            return NO_METHOD_HANDLE;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2019 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -66,4 +66,10 @@ public class PropertyNotWritableException extends ELException {
         super(pMessage, pRootCause);
     }
 
+    /*
+     * Creates a PropertyNotWritableException with a detail message that is formatted when first read.
+     */
+    PropertyNotWritableException(ELUtil.LocalizedMessage message) {
+        super(message);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ * Copyright (c) 2024, 2026 Contributors to the Eclipse Foundation
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -15,11 +15,19 @@
  */
 package jakarta.el;
 
-import static jakarta.el.ELUtil.getExceptionMessageString;
+import static jakarta.el.ELUtil.getLazyExceptionMessage;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Defines property resolution behavior on instances of {@link Record}.
@@ -37,6 +45,22 @@ import java.util.Objects;
  */
 public class RecordELResolver extends ELResolver {
 
+    private static final ClassValue<RecordAccessors> RECORD_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected RecordAccessors computeValue(Class<?> type) {
+            return new RecordAccessors(type);
+        }
+    };
+
+    /*
+     * The number of times the accessors of a record have been looked up by reflection rather than found in the cache.
+     */
+    private static final LongAdder ACCESSOR_LOOKUPS = new LongAdder();
+
+    static long getAccessorLookupCount() {
+        return ACCESSOR_LOOKUPS.sum();
+    }
+
     /**
      * If the base object is an instance of {@link Record}, returns the value of the given field of this {@link Record}.
      * <p>
@@ -59,29 +83,230 @@ public class RecordELResolver extends ELResolver {
      */
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
+        Object value = lookupValue(context, base, property, true);
+        if (value == NOT_RESOLVED) {
+            return null;
+        }
+        return value;
+    }
+
+
+    /**
+     * If the base object is an instance of {@link Record}, returns the value of the given field of this {@link Record},
+     * as {@link #getValue} does, without using the {@code propertyResolved} property of the provided {@link ELContext}.
+     *
+     * @param context  The context of this evaluation.
+     * @param base     The {@link Record} on which to get the property.
+     * @param property The property to get. Will be coerced to a String.
+     *
+     * @return The value of the given property or {@link #NOT_RESOLVED} if the {@code base} is not an instance of
+     *             {@link Record} or the {@code property} is {@code null}.
+     *
+     * @throws NullPointerException      if the provided {@link ELContext} is {@code null}.
+     * @throws PropertyNotFoundException if the {@code base} is an instance of {@link Record} and the specified property
+     *                                       does not exist.
+     * @throws ELException               if an exception was thrown while performing the property resolution. The thrown
+     *                                       exception must be included as the cause of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Object resolveValue(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(RecordELResolver.class)) {
+            return super.resolveValue(context, base, property);
+        }
+        return lookupValue(context, base, property, false);
+    }
+
+    /*
+     * With resolve set the property is resolved before the accessor is looked up so that it remains resolved when a
+     * PropertyNotFoundException is thrown.
+     */
+    private Object lookupValue(ELContext context, Object base, Object property, boolean resolve) {
         Objects.requireNonNull(context);
 
         if (base instanceof Record && property != null) {
-            context.setPropertyResolved(base, property);
+            if (resolve) {
+                context.setPropertyResolved(base, property);
+            } else {
+                context.notifyPropertyResolved(base, property);
+            }
 
             String propertyName = property.toString();
 
-            Method method;
-            try {
-                method = base.getClass().getMethod(propertyName);
-            } catch (NoSuchMethodException nsme) {
+            RecordAccessor accessor = RECORD_ACCESSORS.get(base.getClass()).getAccessor(propertyName);
+            if (accessor == null) {
                 throw new PropertyNotFoundException(
-                        getExceptionMessageString(context, "propertyNotReadable", new Object[] { base.getClass().getName(), property.toString() }));
+                        getLazyExceptionMessage(context, "propertyNotReadable", new Object[] { base.getClass().getName(), property.toString() }));
             }
 
-            try {
-                return method.invoke(base);
-            } catch (ELException ex) {
-                throw ex;
-            } catch (InvocationTargetException ite) {
-                throw new ELException(ite.getCause());
-            } catch (Exception ex) {
-                throw new ELException(ex);
+            return read(accessor, base);
+        }
+        return NOT_RESOLVED;
+    }
+
+
+    /**
+     * If the base object is an instance of {@link Record}, returns the value of the given field of this {@link Record}
+     * coerced to {@code boolean}. If the accessor returns a primitive value that does not need to be coerced, other than
+     * by a widening conversion, the value is obtained without boxing it. Otherwise the result is the same as that of
+     * {@link ELResolver#getBoolean}.
+     *
+     * @param context  The context of this evaluation.
+     * @param base     The {@link Record} on which to get the property.
+     * @param property The property to get. Will be coerced to a String.
+     *
+     * @return If the {@code propertyResolved} property of the provided {@link ELContext} was set to {@code true} then
+     *             the value of the given property coerced to {@code boolean}. Otherwise, undefined.
+     *
+     * @throws NullPointerException      if the provided {@link ELContext} is {@code null}.
+     * @throws PropertyNotFoundException if the {@code base} is an instance of {@link Record} and the specified property
+     *                                       does not exist.
+     * @throws ELException               if an exception was thrown while performing the property resolution or if the
+     *                                       value cannot be coerced to {@code boolean}. The thrown exception must be
+     *                                       included as the cause of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public boolean getBoolean(ELContext context, Object base, Object property) {
+        PrimitiveReadHandles handles = getPrimitiveReadHandles(context, base, property);
+        MethodHandle handle = handles == null ? null : handles.getBooleanHandle();
+        if (handle == null) {
+            return super.getBoolean(context, base, property);
+        }
+
+        context.setPropertyResolved(base, property);
+        return PrimitiveReadHandles.readBoolean(handle, base);
+    }
+
+
+    /**
+     * If the base object is an instance of {@link Record}, returns the value of the given field of this {@link Record}
+     * coerced to {@code int}. If the accessor returns a primitive value that does not need to be coerced, other than
+     * by a widening conversion, the value is obtained without boxing it. Otherwise the result is the same as that of
+     * {@link ELResolver#getInt}.
+     *
+     * @param context  The context of this evaluation.
+     * @param base     The {@link Record} on which to get the property.
+     * @param property The property to get. Will be coerced to a String.
+     *
+     * @return If the {@code propertyResolved} property of the provided {@link ELContext} was set to {@code true} then
+     *             the value of the given property coerced to {@code int}. Otherwise, undefined.
+     *
+     * @throws NullPointerException      if the provided {@link ELContext} is {@code null}.
+     * @throws PropertyNotFoundException if the {@code base} is an instance of {@link Record} and the specified property
+     *                                       does not exist.
+     * @throws ELException               if an exception was thrown while performing the property resolution or if the
+     *                                       value cannot be coerced to {@code int}. The thrown exception must be
+     *                                       included as the cause of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public int getInt(ELContext context, Object base, Object property) {
+        PrimitiveReadHandles handles = getPrimitiveReadHandles(context, base, property);
+        MethodHandle handle = handles == null ? null : handles.getIntHandle();
+        if (handle == null) {
+            return super.getInt(context, base, property);
+        }
+
+        context.setPropertyResolved(base, property);
+        return PrimitiveReadHandles.readInt(handle, base);
+    }
+
+
+    /**
+     * If the base object is an instance of {@link Record}, returns the value of the given field of this {@link Record}
+     * coerced to {@code long}. If the accessor returns a primitive value that does not need to be coerced, other than
+     * by a widening conversion, the value is obtained without boxing it. Otherwise the result is the same as that of
+     * {@link ELResolver#getLong}.
+     *
+     * @param context  The context of this evaluation.
+     * @param base     The {@link Record} on which to get the property.
+     * @param property The property to get. Will be coerced to a String.
+     *
+     * @return If the {@code propertyResolved} property of the provided {@link ELContext} was set to {@code true} then
+     *             the value of the given property coerced to {@code long}. Otherwise, undefined.
+     *
+     * @throws NullPointerException      if the provided {@link ELContext} is {@code null}.
+     * @throws PropertyNotFoundException if the {@code base} is an instance of {@link Record} and the specified property
+     *                                       does not exist.
+     * @throws ELException               if an exception was thrown while performing the property resolution or if the
+     *                                       value cannot be coerced to {@code long}. The thrown exception must be
+     *                                       included as the cause of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public long getLong(ELContext context, Object base, Object property) {
+        PrimitiveReadHandles handles = getPrimitiveReadHandles(context, base, property);
+        MethodHandle handle = handles == null ? null : handles.getLongHandle();
+        if (handle == null) {
+            return super.getLong(context, base, property);
+        }
+
+        context.setPropertyResolved(base, property);
+        return PrimitiveReadHandles.readLong(handle, base);
+    }
+
+
+    /**
+     * If the base object is an instance of {@link Record}, returns the value of the given field of this {@link Record}
+     * coerced to {@code double}. If the accessor returns a primitive value that does not need to be coerced, other than
+     * by a widening conversion, the value is obtained without boxing it. Otherwise the result is the same as that of
+     * {@link ELResolver#getDouble}.
+     *
+     * @param context  The context of this evaluation.
+     * @param base     The {@link Record} on which to get the property.
+     * @param property The property to get. Will be coerced to a String.
+     *
+     * @return If the {@code propertyResolved} property of the provided {@link ELContext} was set to {@code true} then
+     *             the value of the given property coerced to {@code double}. Otherwise, undefined.
+     *
+     * @throws NullPointerException      if the provided {@link ELContext} is {@code null}.
+     * @throws PropertyNotFoundException if the {@code base} is an instance of {@link Record} and the specified property
+     *                                       does not exist.
+     * @throws ELException               if an exception was thrown while performing the property resolution or if the
+     *                                       value cannot be coerced to {@code double}. The thrown exception must be
+     *                                       included as the cause of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public double getDouble(ELContext context, Object base, Object property) {
+        PrimitiveReadHandles handles = getPrimitiveReadHandles(context, base, property);
+        MethodHandle handle = handles == null ? null : handles.getDoubleHandle();
+        if (handle == null) {
+            return super.getDouble(context, base, property);
+        }
+
+        context.setPropertyResolved(base, property);
+        return PrimitiveReadHandles.readDouble(handle, base);
+    }
+
+
+    /**
+     * If the base object is a {@link Record} and the property is readable, returns an accessor that reads the property
+     * from records of the same class as the base.
+     *
+     * @param context The context of this evaluation.
+     * @param base The record on which to read the property.
+     * @param property The name of the property to read. Will be coerced to a <code>String</code>.
+     * @return An accessor for the property or <code>null</code> if the base is not a record or the property is not
+     * readable
+     * @throws NullPointerException if context is <code>null</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public PropertyAccessor getPropertyAccessor(ELContext context, Object base, Object property) {
+        Objects.requireNonNull(context);
+
+        if (base instanceof Record && property != null && isGetValueDeclaredBy(RecordELResolver.class)) {
+            RecordAccessor accessor = RECORD_ACCESSORS.get(base.getClass()).getAccessor(property.toString());
+            if (accessor != null) {
+                return new RecordPropertyAccessor(base.getClass(), property, accessor);
             }
         }
         return null;
@@ -114,11 +339,9 @@ public class RecordELResolver extends ELResolver {
 
             String propertyName = property.toString();
 
-            try {
-                base.getClass().getMethod(propertyName);
-            } catch (NoSuchMethodException nsme) {
+            if (RECORD_ACCESSORS.get(base.getClass()).getAccessor(propertyName) == null) {
                 throw new PropertyNotFoundException(
-                        getExceptionMessageString(context, "propertyNotReadable", new Object[] { base.getClass().getName(), property.toString() }));
+                        getLazyExceptionMessage(context, "propertyNotReadable", new Object[] { base.getClass().getName(), property.toString() }));
             }
         }
         return null;
@@ -151,15 +374,13 @@ public class RecordELResolver extends ELResolver {
 
             String propertyName = property.toString();
 
-            try {
-                base.getClass().getMethod(propertyName);
-            } catch (NoSuchMethodException nsme) {
+            if (RECORD_ACCESSORS.get(base.getClass()).getAccessor(propertyName) == null) {
                 throw new PropertyNotFoundException(
-                        getExceptionMessageString(context, "propertyNotFound", new Object[] { base.getClass().getName(), property.toString() }));
+                        getLazyExceptionMessage(context, "propertyNotFound", new Object[] { base.getClass().getName(), property.toString() }));
             }
 
             throw new PropertyNotWritableException(
-                    getExceptionMessageString(context, "propertyNotWritable", new Object[] { base.getClass().getName(), property.toString() }));
+                    getLazyExceptionMessage(context, "propertyNotWritable", new Object[] { base.getClass().getName(), property.toString() }));
         }
     }
 
@@ -187,11 +408,9 @@ public class RecordELResolver extends ELResolver {
 
             String propertyName = property.toString();
 
-            try {
-                base.getClass().getMethod(propertyName);
-            } catch (NoSuchMethodException nsme) {
+            if (RECORD_ACCESSORS.get(base.getClass()).getAccessor(propertyName) == null) {
                 throw new PropertyNotFoundException(
-                        getExceptionMessageString(context, "propertyNotFound", new Object[] { base.getClass().getName(), property.toString() }));
+                        getLazyExceptionMessage(context, "propertyNotFound", new Object[] { base.getClass().getName(), property.toString() }));
             }
 
             return true;
@@ -220,4 +439,169 @@ public class RecordELResolver extends ELResolver {
         }
         return null;
     }
+
+    /**
+     * Returns the types of non-<code>null</code> base object for which this resolver may resolve a (base, property)
+     * pair or a (base, method) pair.
+     *
+     * <p>
+     * This resolver only handles bases of type <code>Record</code>.
+     * </p>
+     *
+     * @return <code>Record.class</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Class<?>[] getBaseTypes() {
+        return new Class<?>[] { Record.class };
+    }
+
+
+    /*
+     * Returns the handles that read the property without boxing or null if the property must be read by getValue(),
+     * including when getValue() will report that the property does not exist.
+     */
+    private PrimitiveReadHandles getPrimitiveReadHandles(ELContext context, Object base, Object property) {
+        Objects.requireNonNull(context);
+
+        if (base instanceof Record && property != null && isGetValueDeclaredBy(RecordELResolver.class)) {
+            RecordAccessor accessor = RECORD_ACCESSORS.get(base.getClass()).getAccessor(property.toString());
+            if (accessor != null) {
+                return accessor.getPrimitiveReadHandles();
+            }
+        }
+        return null;
+    }
+
+    private static Object read(RecordAccessor accessor, Object base) {
+        try {
+            return accessor.read(base);
+        } catch (ELException ex) {
+            throw ex;
+        } catch (InvocationTargetException ite) {
+            throw new ELException(ite.getCause());
+        } catch (Exception ex) {
+            throw new ELException(ex);
+        }
+    }
+
+
+    private static final class RecordPropertyAccessor extends PropertyAccessor {
+
+        private final RecordAccessor accessor;
+
+        RecordPropertyAccessor(Class<?> baseClass, Object property, RecordAccessor accessor) {
+            super(baseClass, property);
+            this.accessor = accessor;
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base) {
+            context.setPropertyResolved(base, getProperty());
+            return read(accessor, base);
+        }
+    }
+
+
+    /*
+     * The accessors of a single record class. The record components are added when the instance is created. Other
+     * public methods without parameters, which have always been usable as properties, are looked up when first used and
+     * the outcome, including the outcome that there is no such method, is recorded.
+     */
+    private static final class RecordAccessors {
+
+        /*
+         * Limits the memory used if expressions refer to many names that are not properties of the record. Once the
+         * limit is reached further misses are not recorded but remain correct.
+         */
+        private static final int MAX_NOT_AN_ACCESSOR = 1024;
+
+        private static final RecordAccessor NOT_AN_ACCESSOR = new RecordAccessor(null);
+
+        private final Class<?> type;
+        private final Map<String, RecordAccessor> accessors = new ConcurrentHashMap<>();
+
+        RecordAccessors(Class<?> type) {
+            this.type = type;
+            ACCESSOR_LOOKUPS.increment();
+            RecordComponent[] components = type.getRecordComponents();
+            if (components != null) {
+                for (RecordComponent component : components) {
+                    accessors.put(component.getName(), new RecordAccessor(component.getAccessor()));
+                }
+            }
+        }
+
+        RecordAccessor getAccessor(String name) {
+            RecordAccessor accessor = accessors.get(name);
+            if (accessor == null) {
+                ACCESSOR_LOOKUPS.increment();
+                try {
+                    accessor = new RecordAccessor(type.getMethod(name));
+                } catch (NoSuchMethodException nsme) {
+                    accessor = NOT_AN_ACCESSOR;
+                }
+                if (accessor != NOT_AN_ACCESSOR || accessors.size() < MAX_NOT_AN_ACCESSOR) {
+                    RecordAccessor existing = accessors.putIfAbsent(name, accessor);
+                    if (existing != null) {
+                        accessor = existing;
+                    }
+                }
+            }
+            return accessor == NOT_AN_ACCESSOR ? null : accessor;
+        }
+    }
+
+
+    private static final class RecordAccessor {
+
+        private static final MethodType READ_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+        private static final MethodHandle NO_METHOD_HANDLE = MethodHandles.zero(Object.class);
+
+        private final Method method;
+        private final PrimitiveReadHandles primitiveReadHandles;
+        private volatile MethodHandle handle;
+
+        RecordAccessor(Method method) {
+            this.method = method;
+            this.primitiveReadHandles = PrimitiveReadHandles.of(method);
+        }
+
+        /*
+         * Returns null if the accessor does not return a primitive that may be read without boxing.
+         */
+        PrimitiveReadHandles getPrimitiveReadHandles() {
+            return primitiveReadHandles;
+        }
+
+        /*
+         * Reads the value using a MethodHandle adapted to (Object)Object. Exceptions thrown by the accessor are wrapped
+         * in an InvocationTargetException so callers see the same exceptions as for Method.invoke().
+         */
+        Object read(Object base) throws IllegalAccessException, InvocationTargetException {
+            MethodHandle handle = this.handle;
+            if (handle == null) {
+                handle = toMethodHandle(method);
+                this.handle = handle;
+            }
+            if (handle == NO_METHOD_HANDLE) {
+                return method.invoke(base);
+            }
+            try {
+                return (Object) handle.invokeExact(base);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        private static MethodHandle toMethodHandle(Method method) {
+            try {
+                return MethodHandles.publicLookup().unreflect(method).asType(READ_METHOD_TYPE);
+            } catch (IllegalAccessException | WrongMethodTypeException e) {
+                // e.g. a record that is not public. Fall back to Method.invoke() so the behaviour is unchanged.
+                return NO_METHOD_HANDLE;
+            }
+        }
+    }
 }
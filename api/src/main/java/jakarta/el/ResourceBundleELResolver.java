@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2022 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -18,8 +18,14 @@
 
 package jakarta.el;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Defines property resolution behavior on instances of {@link java.util.ResourceBundle}.
@@ -44,6 +50,54 @@ import java.util.ResourceBundle;
  */
 public class ResourceBundleELResolver extends ELResolver {
 
+    /*
+     * The flattened contents of each ResourceBundle, shared by all resolvers that have the bundle cache enabled. Weakly
+     * keyed by bundle identity so that the cache does not prevent bundles from being garbage collected. Look-ups do not
+     * lock. The entries of collected bundles are removed when a further bundle is added.
+     */
+    private static final Map<BundleKey, Map<String, Object>> FLATTENED_BUNDLES = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<ResourceBundle> COLLECTED_BUNDLES = new ReferenceQueue<>();
+
+    private volatile boolean bundleCacheEnabled;
+
+    /**
+     * Enables or disables the caching of the contents of <code>ResourceBundle</code>s by this resolver.
+     *
+     * <p>
+     * When enabled, the first time {@link #getValue} is called for a <code>ResourceBundle</code> instance, all the keys of
+     * that bundle, including those of its parent bundles, are resolved and held in an immutable map. Subsequent calls for
+     * the same bundle instance, including calls for keys that do not exist, are answered from that map without calling
+     * {@link ResourceBundle#getObject(String)}, so missing keys do not trigger a <code>MissingResourceException</code>.
+     * The cache only holds weak references to bundles. It should only be enabled if the contents of the
+     * <code>ResourceBundle</code>s used do not change once created, as is the case for the standard implementations.
+     * </p>
+     *
+     * <p>
+     * The cache is disabled by default.
+     * </p>
+     *
+     * @param enabled <code>true</code> to enable the cache, <code>false</code> to disable it
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public void setBundleCacheEnabled(boolean enabled) {
+        this.bundleCacheEnabled = enabled;
+    }
+
+    /**
+     * Returns whether this resolver caches the contents of <code>ResourceBundle</code>s.
+     *
+     * @return <code>true</code> if the cache is enabled, otherwise <code>false</code>
+     *
+     * @see #setBundleCacheEnabled(boolean)
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public boolean isBundleCacheEnabled() {
+        return bundleCacheEnabled;
+    }
+
     /**
      * If the base object is an instance of <code>ResourceBundle</code>, the provided property will first be coerced to a
      * <code>String</code>. The <code>Object</code> returned by <code>getObject</code> on the base
@@ -67,22 +121,59 @@ public class ResourceBundleELResolver extends ELResolver {
      */
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
+        Object value = lookupValue(context, base, property);
+        if (value == NOT_RESOLVED) {
+            return null;
+        }
+
+        context.setPropertyResolved(true);
+        return value;
+    }
+
+    /**
+     * If the base object is an instance of <code>ResourceBundle</code>, returns the value of the given key, as
+     * {@link #getValue} does, without using the <code>propertyResolved</code> property of the <code>ELContext</code>.
+     *
+     * @param context The context of this evaluation.
+     * @param base The ResourceBundle to analyze.
+     * @param property The name of the property to analyze. Will be coerced to a <code>String</code>.
+     * @return The value of the given key, <code>null</code> if the property is <code>null</code> or
+     * {@link #NOT_RESOLVED} if the base is not a <code>ResourceBundle</code>
+     * @throws NullPointerException if context is <code>null</code>
+     * @throws ELException if an exception was thrown while performing the property or variable resolution. The thrown
+     * exception must be included as the cause property of this exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Object resolveValue(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(ResourceBundleELResolver.class)) {
+            return super.resolveValue(context, base, property);
+        }
+        return lookupValue(context, base, property);
+    }
+
+    private Object lookupValue(ELContext context, Object base, Object property) {
         if (context == null) {
             throw new NullPointerException();
         }
 
         if (base instanceof ResourceBundle) {
-            context.setPropertyResolved(true);
             if (property != null) {
+                if (bundleCacheEnabled) {
+                    Object value = getFlattenedBundle((ResourceBundle) base).get(property.toString());
+                    return value != null ? value : "???" + property + "???";
+                }
                 try {
                     return ((ResourceBundle) base).getObject(property.toString());
                 } catch (MissingResourceException e) {
                     return "???" + property + "???";
                 }
             }
+            return null;
         }
 
-        return null;
+        return NOT_RESOLVED;
     }
 
     /**
@@ -184,4 +275,78 @@ public class ResourceBundleELResolver extends ELResolver {
 
         return null;
     }
+
+    /**
+     * Returns the types of non-<code>null</code> base object for which this resolver may resolve a (base, property)
+     * pair or a (base, method) pair.
+     *
+     * <p>
+     * This resolver only handles bases of type <code>ResourceBundle</code>.
+     * </p>
+     *
+     * @return <code>ResourceBundle.class</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Class<?>[] getBaseTypes() {
+        return new Class<?>[] { ResourceBundle.class };
+    }
+
+    private static Map<String, Object> getFlattenedBundle(ResourceBundle bundle) {
+        Map<String, Object> result = FLATTENED_BUNDLES.get(new BundleKey(bundle, null));
+        if (result == null) {
+            Map<String, Object> values = new HashMap<>();
+            // keySet() includes the keys of the parent bundles and getObject() searches the parent bundles
+            for (String key : bundle.keySet()) {
+                try {
+                    values.put(key, bundle.getObject(key));
+                } catch (MissingResourceException e) {
+                    // Ignore. The key will be reported as missing.
+                }
+            }
+            result = Map.copyOf(values);
+
+            Reference<? extends ResourceBundle> collected;
+            while ((collected = COLLECTED_BUNDLES.poll()) != null) {
+                FLATTENED_BUNDLES.remove(collected);
+            }
+            Map<String, Object> existing =
+                    FLATTENED_BUNDLES.putIfAbsent(new BundleKey(bundle, COLLECTED_BUNDLES), result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result;
+    }
+
+    /*
+     * A weak reference to a bundle that is equal to any other key for the same bundle instance.
+     */
+    private static final class BundleKey extends WeakReference<ResourceBundle> {
+
+        private final int hashCode;
+
+        BundleKey(ResourceBundle bundle, ReferenceQueue<ResourceBundle> queue) {
+            super(bundle, queue);
+            hashCode = System.identityHashCode(bundle);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof BundleKey)) {
+                return false;
+            }
+            ResourceBundle bundle = get();
+            return bundle != null && bundle == ((BundleKey) obj).get();
+        }
+    }
 }
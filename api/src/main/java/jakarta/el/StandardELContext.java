@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2023 Oracle and/or its affiliates and others.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -18,8 +18,11 @@
 package jakarta.el;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * A standard ELContext suitable for use in a stand alone environment. This class provides a default implementation of
@@ -46,6 +49,11 @@ public class StandardELContext extends ELContext {
      */
     private ELResolver streamELResolver;
 
+    /*
+     * If non-null, the shared ELResolver that provides the standard ELResolvers for this ELContext.
+     */
+    private ELResolver sharedELResolver;
+
     /*
      * The FunctionMapper for this ELContext.
      */
@@ -63,7 +71,8 @@ public class StandardELContext extends ELContext {
 
     /*
      * If non-null, indicates the presence of a delegate ELContext. When a Standard is constructed from another ELContext,
-     * there is no easy way to get its private context map, therefore delegation is needed.
+     * there is no easy way to get its private context objects, therefore delegation is needed. Delegation only adds a
+     * call as the delegate uses the same slot-indexed look-up of context objects.
      */
     private ELContext delegate;
 
@@ -82,6 +91,29 @@ public class StandardELContext extends ELContext {
         initFunctionMap = factory.getInitFunctionMap();
     }
 
+    /**
+     * Construct a default ELContext for a stand-alone environment that uses a shared <code>ELResolver</code>, created by
+     * {@link #createSharedELResolver(ExpressionFactory)}, in place of creating new instances of the standard
+     * <code>ELResolver</code>s.
+     *
+     * <p>
+     * The shared <code>ELResolver</code> may be used by any number of <code>ELContext</code>s concurrently. The beans
+     * defined locally to this context and any custom <code>ELResolver</code>s added to this context are consulted before
+     * the shared <code>ELResolver</code> as described in {@link #getELResolver()}.
+     * </p>
+     *
+     * @param factory The ExpressionFactory
+     * @param sharedELResolver The shared ELResolver
+     *
+     * @throws NullPointerException if <code>sharedELResolver</code> is <code>null</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public StandardELContext(ExpressionFactory factory, ELResolver sharedELResolver) {
+        this(factory);
+        this.sharedELResolver = Objects.requireNonNull(sharedELResolver);
+    }
+
     /**
      * Construct a StandardELContext from another ELContext.
      *
@@ -122,6 +154,23 @@ public class StandardELContext extends ELContext {
         return delegate.getContext(key);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * In addition, the beans defined locally to this context are removed. The <code>ELResolver</code>, including any
+     * custom <code>ELResolver</code>s, is retained. If this context was constructed from another
+     * <code>ELContext</code>, that <code>ELContext</code> is not reset.
+     * </p>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        beans.clear();
+    }
+
     /**
      * Construct (if needed) and return a default ELResolver.
      *
@@ -151,22 +200,59 @@ public class StandardELContext extends ELContext {
             resolver.add(new BeanNameELResolver(new LocalBeanNameResolver()));
             customResolvers = new CompositeELResolver();
             resolver.add(customResolvers);
-            if (streamELResolver != null) {
-                resolver.add(streamELResolver);
+            if (sharedELResolver != null) {
+                resolver.add(sharedELResolver);
+            } else {
+                for (ELResolver standardResolver : createStandardResolvers(streamELResolver)) {
+                    resolver.add(standardResolver);
+                }
             }
-            resolver.add(new StaticFieldELResolver());
-            resolver.add(new MapELResolver());
-            resolver.add(new ResourceBundleELResolver());
-            resolver.add(new ListELResolver());
-            resolver.add(new ArrayELResolver());
-            resolver.add(new RecordELResolver());
-            resolver.add(new BeanELResolver());
             elResolver = resolver;
         }
 
         return elResolver;
     }
 
+    /**
+     * Creates an immutable, thread-safe <code>ELResolver</code> containing the standard <code>ELResolver</code>s, from
+     * the <code>ELResolver</code> supporting the collection operations to the {@link BeanELResolver}, as listed in
+     * {@link #getELResolver()}.
+     *
+     * <p>
+     * The returned <code>ELResolver</code> is intended to be created once and then passed to
+     * {@link #StandardELContext(ExpressionFactory, ELResolver)} so that it is shared by any number of
+     * <code>StandardELContext</code>s. This avoids creating the standard <code>ELResolver</code>s for every
+     * <code>ELContext</code> and allows state such as the dispatch plan of the {@link CompositeELResolver} to be
+     * calculated once. The returned <code>ELResolver</code> is a <code>CompositeELResolver</code> with the dispatch plan
+     * enabled to which no further <code>ELResolver</code>s may be added.
+     * </p>
+     *
+     * @param factory The ExpressionFactory that provides the <code>ELResolver</code> supporting the collection
+     * operations
+     *
+     * @return A new shared <code>ELResolver</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public static ELResolver createSharedELResolver(ExpressionFactory factory) {
+        return new SharedELResolver(createStandardResolvers(factory.getStreamELResolver()));
+    }
+
+    private static List<ELResolver> createStandardResolvers(ELResolver streamELResolver) {
+        List<ELResolver> resolvers = new ArrayList<>();
+        if (streamELResolver != null) {
+            resolvers.add(streamELResolver);
+        }
+        resolvers.add(new StaticFieldELResolver());
+        resolvers.add(new MapELResolver());
+        resolvers.add(new ResourceBundleELResolver());
+        resolvers.add(new ListELResolver());
+        resolvers.add(new ArrayELResolver());
+        resolvers.add(new RecordELResolver());
+        resolvers.add(new BeanELResolver());
+        return resolvers;
+    }
+
     /**
      * Add a custom ELResolver to the context. The list of the custom ELResolvers will be accessed in the order they are
      * added. A custom ELResolver added to the context cannot be removed.
@@ -215,6 +301,30 @@ public class StandardELContext extends ELContext {
         return variableMapper;
     }
 
+    /*
+     * A composite of the standard resolvers that may be shared between ELContexts. The resolvers are added on
+     * construction and no further resolvers may be added so, once safely published, it is thread-safe.
+     */
+    private static final class SharedELResolver extends CompositeELResolver {
+
+        SharedELResolver(List<ELResolver> resolvers) {
+            for (ELResolver resolver : resolvers) {
+                super.add(resolver);
+            }
+            super.setDispatchPlanEnabled(true);
+        }
+
+        @Override
+        public void add(ELResolver elResolver) {
+            throw new UnsupportedOperationException("A shared ELResolver may not be modified");
+        }
+
+        @Override
+        public void setDispatchPlanEnabled(boolean enabled) {
+            throw new UnsupportedOperationException("A shared ELResolver may not be modified");
+        }
+    }
+
     private static class DefaultFunctionMapper extends FunctionMapper {
 
         private Map<String, Method> functions;
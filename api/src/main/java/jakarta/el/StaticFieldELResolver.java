@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates and others.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -17,13 +17,19 @@
 
 package jakarta.el;
 
+import static java.lang.reflect.Modifier.isFinal;
 import static java.lang.reflect.Modifier.isPublic;
 import static java.lang.reflect.Modifier.isStatic;
-import static jakarta.el.ELUtil.getExceptionMessageString;
+import static jakarta.el.ELUtil.getLazyExceptionMessage;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * An {@link ELResolver} for resolving static fields, enum constants and static methods. Also handles constructor calls
@@ -38,6 +44,22 @@ import java.lang.reflect.Method;
  */
 public class StaticFieldELResolver extends ELResolver {
 
+    private static final ClassValue<StaticFields> STATIC_FIELDS = new ClassValue<>() {
+        @Override
+        protected StaticFields computeValue(Class<?> type) {
+            return new StaticFields(type);
+        }
+    };
+
+    /*
+     * The number of times a field has been looked up by reflection rather than found in the cache.
+     */
+    private static final LongAdder FIELD_LOOKUPS = new LongAdder();
+
+    static long getFieldLookupCount() {
+        return FIELD_LOOKUPS.sum();
+    }
+
     /**
      * <p>
      * Returns the value of a static field.
@@ -65,6 +87,43 @@ public class StaticFieldELResolver extends ELResolver {
      */
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
+        Object value = lookupValue(context, base, property, true);
+        if (value == NOT_RESOLVED) {
+            return null;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of a static field, as {@link #getValue} does, without using the <code>propertyResolved</code>
+     * property of the <code>ELContext</code>.
+     *
+     * @param context The context of this evaluation.
+     * @param base An <code>ELClass</code>.
+     * @param property A static field name.
+     *
+     * @return The static field value or {@link #NOT_RESOLVED} if the base is not an <code>ELClass</code> or the property
+     * is not a String.
+     *
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if the specified class does not exist, or if the field is not a public static filed
+     * of the class, or if the field is inaccessible.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Object resolveValue(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(StaticFieldELResolver.class)) {
+            return super.resolveValue(context, base, property);
+        }
+        return lookupValue(context, base, property, false);
+    }
+
+    /*
+     * With resolve set the property is resolved before the field is looked up so that it remains resolved when a
+     * PropertyNotFoundException is thrown.
+     */
+    private Object lookupValue(ELContext context, Object base, Object property, boolean resolve) {
         if (context == null) {
             throw new NullPointerException();
         }
@@ -72,22 +131,23 @@ public class StaticFieldELResolver extends ELResolver {
         if (base instanceof ELClass && property instanceof String) {
             Class<?> klass = ((ELClass) base).getKlass();
             String fieldName = (String) property;
-            try {
+            if (resolve) {
                 context.setPropertyResolved(base, property);
-                Field field = klass.getField(fieldName);
-
-                int mod = field.getModifiers();
-                if (isPublic(mod) && isStatic(mod)) {
-                    return field.get(null);
+            } else {
+                context.notifyPropertyResolved(base, property);
+            }
+            StaticField field = STATIC_FIELDS.get(klass).getField(fieldName);
+            if (field != null) {
+                try {
+                    return field.getValue();
+                } catch (IllegalAccessException ex) {
                 }
-            } catch (NoSuchFieldException ex) {
-            } catch (IllegalAccessException ex) {
             }
 
-            throw new PropertyNotFoundException(getExceptionMessageString(context, "staticFieldReadError", new Object[] { klass.getName(), fieldName }));
+            throw new PropertyNotFoundException(getLazyExceptionMessage(context, "staticFieldReadError", new Object[] { klass.getName(), fieldName }));
         }
 
-        return null;
+        return NOT_RESOLVED;
     }
 
     /**
@@ -116,7 +176,7 @@ public class StaticFieldELResolver extends ELResolver {
             Class<?> klass = ((ELClass) base).getKlass();
             String fieldName = (String) property;
             throw new PropertyNotWritableException(
-                    getExceptionMessageString(context, "staticFieldWriteError", new Object[] { klass.getName(), fieldName }));
+                    getLazyExceptionMessage(context, "staticFieldWriteError", new Object[] { klass.getName(), fieldName }));
         }
     }
 
@@ -204,19 +264,13 @@ public class StaticFieldELResolver extends ELResolver {
         if (base instanceof ELClass && property instanceof String) {
             Class<?> klass = ((ELClass) base).getKlass();
             String fieldName = (String) property;
-            try {
-                context.setPropertyResolved(true);
-                Field field = klass.getField(fieldName);
-
-                int mod = field.getModifiers();
-                if (isPublic(mod) && isStatic(mod)) {
-                    // Resolver is read-only so need to return null if field is
-                    // resolved.
-                    return null;
-                }                
-            } catch (NoSuchFieldException ex) {
+            context.setPropertyResolved(true);
+            if (STATIC_FIELDS.get(klass).getField(fieldName) != null) {
+                // Resolver is read-only so need to return null if field is
+                // resolved.
+                return null;
             }
-            throw new PropertyNotFoundException(getExceptionMessageString(context, "staticFieldReadError", new Object[] { klass.getName(), fieldName }));
+            throw new PropertyNotFoundException(getLazyExceptionMessage(context, "staticFieldReadError", new Object[] { klass.getName(), fieldName }));
         }
 
         return null;
@@ -268,4 +322,141 @@ public class StaticFieldELResolver extends ELResolver {
     public Class<?> getCommonPropertyType(ELContext context, Object base) {
         return String.class;
     }
+
+    /**
+     * Returns the types of non-<code>null</code> base object for which this resolver may resolve a (base, property)
+     * pair or a (base, method) pair.
+     *
+     * <p>
+     * This resolver only handles bases of type <code>ELClass</code>.
+     * </p>
+     *
+     * @return <code>ELClass.class</code>
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    @Override
+    public Class<?>[] getBaseTypes() {
+        return new Class<?>[] { ELClass.class };
+    }
+
+
+    /*
+     * The public static fields of a single class that have been looked up by name, including the names that do not
+     * identify a public static field.
+     */
+    private static final class StaticFields {
+
+        /*
+         * Limits the memory used if expressions refer to many names that are not fields of the class. Once the limit is
+         * reached further misses are not recorded but remain correct.
+         */
+        private static final int MAX_NOT_A_FIELD = 1024;
+
+        private static final StaticField NOT_A_FIELD = new ConstantField(null);
+
+        private final Class<?> type;
+        private final Map<String, StaticField> fields = new ConcurrentHashMap<>();
+
+        StaticFields(Class<?> type) {
+            this.type = type;
+        }
+
+        StaticField getField(String name) {
+            StaticField field = fields.get(name);
+            if (field == null) {
+                field = lookup(name);
+                if (field != NOT_A_FIELD || fields.size() < MAX_NOT_A_FIELD) {
+                    StaticField existing = fields.putIfAbsent(name, field);
+                    if (existing != null) {
+                        field = existing;
+                    }
+                }
+            }
+            return field == NOT_A_FIELD ? null : field;
+        }
+
+        private StaticField lookup(String name) {
+            FIELD_LOOKUPS.increment();
+            Field field;
+            try {
+                field = type.getField(name);
+            } catch (NoSuchFieldException ex) {
+                return NOT_A_FIELD;
+            }
+
+            int mod = field.getModifiers();
+            if (!isPublic(mod) || !isStatic(mod)) {
+                return NOT_A_FIELD;
+            }
+
+            VarHandle varHandle;
+            try {
+                varHandle = MethodHandles.publicLookup().unreflectVarHandle(field);
+            } catch (IllegalAccessException ex) {
+                // e.g. declared by a class that is not public. Use reflection so that the behaviour is unchanged.
+                varHandle = null;
+            }
+            return new FieldAccessor(this, name, field, varHandle);
+        }
+
+        /*
+         * Once a static final field has been read its value can't change so the accessor is replaced with the value.
+         */
+        void snapshot(String name, StaticField accessor, Object value) {
+            fields.replace(name, accessor, new ConstantField(value));
+        }
+    }
+
+
+    private abstract static class StaticField {
+
+        abstract Object getValue() throws IllegalAccessException;
+    }
+
+
+    private static final class ConstantField extends StaticField {
+
+        private final Object value;
+
+        ConstantField(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        Object getValue() {
+            return value;
+        }
+    }
+
+
+    private static final class FieldAccessor extends StaticField {
+
+        private final StaticFields owner;
+        private final String name;
+        private final Field field;
+        private final VarHandle varHandle;
+        private final boolean constant;
+
+        FieldAccessor(StaticFields owner, String name, Field field, VarHandle varHandle) {
+            this.owner = owner;
+            this.name = name;
+            this.field = field;
+            this.varHandle = varHandle;
+            this.constant = isFinal(field.getModifiers());
+        }
+
+        @Override
+        Object getValue() throws IllegalAccessException {
+            Object value = varHandle == null ? field.get(null) : varHandle.get();
+            /*
+             * A null value may be observed if the field is read while the class is still being initialized so only
+             * non-null values are treated as constant.
+             */
+            if (constant && value != null && varHandle != null) {
+                owner.snapshot(name, this, value);
+            }
+            return value;
+        }
+    }
 }
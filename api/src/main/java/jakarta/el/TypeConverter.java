@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022 Oracle and/or its affiliates and others.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -47,6 +47,14 @@ public abstract class TypeConverter extends ELResolver {
         return null;
     }
 
+    @Override
+    public Object resolveValue(ELContext context, Object base, Object property) {
+        if (!isGetValueDeclaredBy(TypeConverter.class)) {
+            return super.resolveValue(context, base, property);
+        }
+        return NOT_RESOLVED;
+    }
+
     @Override
     public Class<?> getType(ELContext context, Object base, Object property) {
         return null;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 1997, 2024 Oracle and/or its affiliates and others.
+ * Copyright (c) 1997, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  * Copyright 2004 The Apache Software Foundation
  *
@@ -83,6 +83,114 @@ public abstract class ValueExpression extends Expression {
      */
     public abstract <T> T getValue(ELContext context);
 
+    /**
+     * Evaluates the expression relative to the provided context, and returns the resulting value coerced to
+     * <code>boolean</code>.
+     *
+     * <p>
+     * Implementations may override this method to evaluate the expression without boxing the result. The default
+     * implementation calls {@link #getValue(ELContext)} and coerces the result using
+     * {@link ELContext#convertToType}.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @return The result of the expression evaluation coerced to <code>boolean</code>.
+     *
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if one of the property resolutions failed because a specified variable or property
+     * does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing property or variable resolution or if the result
+     * cannot be coerced to <code>boolean</code>. The thrown exception must be included as the cause property of this
+     * exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public boolean getBoolean(ELContext context) {
+        Object value = getValue(context);
+        return ELUtil.toBoolean(context, value);
+    }
+
+    /**
+     * Evaluates the expression relative to the provided context, and returns the resulting value coerced to
+     * <code>int</code>.
+     *
+     * <p>
+     * Implementations may override this method to evaluate the expression without boxing the result. The default
+     * implementation calls {@link #getValue(ELContext)} and coerces the result using
+     * {@link ELContext#convertToType}.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @return The result of the expression evaluation coerced to <code>int</code>.
+     *
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if one of the property resolutions failed because a specified variable or property
+     * does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing property or variable resolution or if the result
+     * cannot be coerced to <code>int</code>. The thrown exception must be included as the cause property of this
+     * exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public int getInt(ELContext context) {
+        Object value = getValue(context);
+        return ELUtil.toInt(context, value);
+    }
+
+    /**
+     * Evaluates the expression relative to the provided context, and returns the resulting value coerced to
+     * <code>long</code>.
+     *
+     * <p>
+     * Implementations may override this method to evaluate the expression without boxing the result. The default
+     * implementation calls {@link #getValue(ELContext)} and coerces the result using
+     * {@link ELContext#convertToType}.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @return The result of the expression evaluation coerced to <code>long</code>.
+     *
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if one of the property resolutions failed because a specified variable or property
+     * does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing property or variable resolution or if the result
+     * cannot be coerced to <code>long</code>. The thrown exception must be included as the cause property of this
+     * exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public long getLong(ELContext context) {
+        Object value = getValue(context);
+        return ELUtil.toLong(context, value);
+    }
+
+    /**
+     * Evaluates the expression relative to the provided context, and returns the resulting value coerced to
+     * <code>double</code>.
+     *
+     * <p>
+     * Implementations may override this method to evaluate the expression without boxing the result. The default
+     * implementation calls {@link #getValue(ELContext)} and coerces the result using
+     * {@link ELContext#convertToType}.
+     * </p>
+     *
+     * @param context The context of this evaluation.
+     * @return The result of the expression evaluation coerced to <code>double</code>.
+     *
+     * @throws NullPointerException if context is <code>null</code>.
+     * @throws PropertyNotFoundException if one of the property resolutions failed because a specified variable or property
+     * does not exist or is not readable.
+     * @throws ELException if an exception was thrown while performing property or variable resolution or if the result
+     * cannot be coerced to <code>double</code>. The thrown exception must be included as the cause property of this
+     * exception, if available.
+     *
+     * @since Jakarta Expression Language 6.1
+     */
+    public double getDouble(ELContext context) {
+        Object value = getValue(context);
+        return ELUtil.toDouble(context, value);
+    }
+
     /**
      * Evaluates the expression relative to the provided context, and sets the result to the provided value.
      *
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestArrayELResolver {
+
+    @Test
+    public void testGetValuePrimitive() {
+        ArrayELResolver resolver = new ArrayELResolver();
+        ELContext context = new TesterELContext();
+        double[] doubles = new double[] { 1.5, 2.5 };
+        long[] longs = new long[] { 3, 4 };
+
+        Assertions.assertEquals(Double.valueOf(2.5), resolver.getValue(context, doubles, Integer.valueOf(1)));
+        Assertions.assertTrue(context.isPropertyResolved());
+        Assertions.assertEquals(Double.valueOf(1.5), resolver.getValue(context, doubles, Long.valueOf(0)));
+        Assertions.assertEquals(Long.valueOf(4), resolver.getValue(context, longs, "1"));
+        Assertions.assertEquals(Integer.valueOf(2), resolver.getValue(context, longs, "length"));
+    }
+
+    @Test
+    public void testGetValueObject() {
+        ArrayELResolver resolver = new ArrayELResolver();
+        ELContext context = new TesterELContext();
+        String[] strings = new String[] { "a", "b" };
+
+        Assertions.assertEquals("a", resolver.getValue(context, strings, Integer.valueOf(0)));
+        Assertions.assertEquals("b", resolver.getValue(context, strings, Character.valueOf((char) 1)));
+        Assertions.assertEquals("b", resolver.getValue(context, strings, Boolean.TRUE));
+    }
+
+    @Test
+    public void testGetValueOutOfBounds() {
+        ArrayELResolver resolver = new ArrayELResolver();
+        ELContext context = new TesterELContext();
+        int[] ints = new int[] { 1 };
+
+        Assertions.assertNull(resolver.getValue(context, ints, Integer.valueOf(1)));
+        Assertions.assertNull(resolver.getValue(context, ints, Integer.valueOf(-1)));
+        Assertions.assertNull(resolver.getValue(context, ints, Long.valueOf(5)));
+        Assertions.assertTrue(context.isPropertyResolved());
+
+        // The property is resolved even though the index is not valid
+        context.setPropertyResolved(false);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> resolver.getValue(context, ints, new Object()));
+        Assertions.assertTrue(context.isPropertyResolved());
+    }
+
+    @Test
+    public void testSetValue() {
+        ArrayELResolver resolver = new ArrayELResolver();
+        ELContext context = new TesterELContext();
+        CharSequence[] values = new CharSequence[2];
+
+        resolver.setValue(context, values, Integer.valueOf(0), "a");
+        resolver.setValue(context, values, Long.valueOf(1), new StringBuilder("b"));
+        Assertions.assertEquals("a", values[0]);
+        Assertions.assertEquals("b", values[1].toString());
+        resolver.setValue(context, values, "0", null);
+        Assertions.assertNull(values[0]);
+
+        Assertions.assertThrows(ClassCastException.class, () -> resolver.setValue(context, values, Integer.valueOf(0), Integer.valueOf(1)));
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.setValue(context, values, Integer.valueOf(2), "c"));
+        Assertions.assertThrows(PropertyNotWritableException.class, () -> resolver.setValue(context, values, "length", "c"));
+        Assertions.assertThrows(PropertyNotWritableException.class,
+                () -> new ArrayELResolver(true).setValue(context, values, Integer.valueOf(0), "c"));
+    }
+
+    @Test
+    public void testSetValuePrimitive() {
+        ArrayELResolver resolver = new ArrayELResolver();
+        ELContext context = new TesterELContext();
+        int[] ints = new int[1];
+
+        Assertions.assertThrows(ClassCastException.class, () -> resolver.setValue(context, ints, Integer.valueOf(0), Integer.valueOf(1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> resolver.setValue(context, ints, Integer.valueOf(0), null));
+    }
+
+    @Test
+    public void testGetPrimitive() {
+        ArrayELResolver resolver = new ArrayELResolver();
+        ELContext context = new TesterELContext();
+        int[] ints = new int[] { 1, 2 };
+
+        Assertions.assertEquals(2, resolver.getInt(context, ints, Integer.valueOf(1)));
+        Assertions.assertTrue(context.isPropertyResolved());
+        Assertions.assertEquals(0, resolver.getInt(context, ints, Integer.valueOf(2)));
+        Assertions.assertEquals(1, resolver.getInt(context, ints, "0"));
+        Assertions.assertEquals(2, resolver.getInt(context, ints, "length"));
+        Assertions.assertEquals(2L, resolver.getLong(context, ints, "length"));
+        Assertions.assertEquals(2, resolver.getInt(context, new Integer[] { 1, 2 }, Integer.valueOf(1)));
+
+        Assertions.assertTrue(resolver.getBoolean(context, new boolean[] { true }, Integer.valueOf(0)));
+        Assertions.assertEquals(5L, resolver.getLong(context, new long[] { 5 }, Integer.valueOf(0)));
+        Assertions.assertEquals(2.5, resolver.getDouble(context, new double[] { 2.5 }, Integer.valueOf(0)));
+
+        context.setPropertyResolved(false);
+        Assertions.assertEquals(0, resolver.getInt(context, "base", "length"));
+        Assertions.assertFalse(context.isPropertyResolved());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class TestBeanELResolver extends ELBaseTest {
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testGetSetValue(boolean useStandalone) {
+        configureBeanSupport(useStandalone);
+        BeanELResolver resolver = new BeanELResolver();
+        ELContext context = new TesterELContext();
+        TesterBean bean = new TesterBean();
+
+        resolver.setValue(context, bean, "name", "foo");
+        Assertions.assertTrue(context.isPropertyResolved());
+        Assertions.assertEquals("foo", bean.getName());
+
+        context.setPropertyResolved(false);
+        Assertions.assertEquals("foo", resolver.getValue(context, bean, "name"));
+        Assertions.assertTrue(context.isPropertyResolved());
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testSetValuePrimitive(boolean useStandalone) {
+        configureBeanSupport(useStandalone);
+        BeanELResolver resolver = new BeanELResolver();
+        ELContext context = new TesterELContext();
+        TesterBean bean = new TesterBean();
+
+        resolver.setValue(context, bean, "count", Long.valueOf(42));
+        Assertions.assertEquals(42, bean.getCount());
+
+        // Widening conversion, as supported by Method.invoke()
+        resolver.setValue(context, bean, "count", Integer.valueOf(7));
+        Assertions.assertEquals(7, bean.getCount());
+
+        Assertions.assertEquals(Long.valueOf(7), resolver.getValue(context, bean, "count"));
+
+        Assertions.assertThrows(ELException.class, () -> resolver.setValue(context, bean, "count", null));
+        Assertions.assertThrows(ELException.class, () -> resolver.setValue(context, bean, "count", "seven"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testGetValueException(boolean useStandalone) {
+        configureBeanSupport(useStandalone);
+        BeanELResolver resolver = new BeanELResolver();
+        ELContext context = new TesterELContext();
+        TesterBean bean = new TesterBean();
+
+        ELException e = Assertions.assertThrows(ELException.class, () -> resolver.getValue(context, bean, "broken"));
+        Assertions.assertEquals(IllegalStateException.class, e.getCause().getClass());
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testPropertyAccessor(boolean useStandalone) {
+        configureBeanSupport(useStandalone);
+        BeanELResolver resolver = new BeanELResolver();
+        ELContext context = new TesterELContext();
+        TesterBean bean = new TesterBean();
+        bean.setName("foo");
+
+        ELResolver.PropertyAccessor accessor = resolver.getPropertyAccessor(context, bean, "name");
+        Assertions.assertFalse(context.isPropertyResolved());
+        Assertions.assertTrue(accessor.isApplicable(bean));
+        Assertions.assertFalse(accessor.isApplicable(new Object()));
+        Assertions.assertFalse(accessor.isApplicable(null));
+        Assertions.assertEquals("name", accessor.getProperty());
+
+        TesterBean other = new TesterBean();
+        other.setName("bar");
+        Assertions.assertEquals("foo", accessor.getValue(context, bean));
+        Assertions.assertTrue(context.isPropertyResolved());
+        Assertions.assertEquals("bar", accessor.getValue(context, other));
+
+        ELException e = Assertions.assertThrows(ELException.class,
+                () -> resolver.getPropertyAccessor(context, bean, "broken").getValue(context, bean));
+        Assertions.assertEquals(IllegalStateException.class, e.getCause().getClass());
+
+        Assertions.assertNull(resolver.getPropertyAccessor(context, bean, "missing"));
+        Assertions.assertNull(resolver.getPropertyAccessor(context, null, "name"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testGetPrimitive(boolean useStandalone) {
+        configureBeanSupport(useStandalone);
+        BeanELResolver resolver = new BeanELResolver();
+        ELContext context = new TesterELContext();
+        TesterBean bean = new TesterBean();
+        bean.setName("foo");
+        bean.setCount(42);
+
+        Assertions.assertEquals(42L, resolver.getLong(context, bean, "count"));
+        Assertions.assertTrue(context.isPropertyResolved());
+        // Widening conversion
+        Assertions.assertEquals(42.0, resolver.getDouble(context, bean, "count"));
+        Assertions.assertTrue(resolver.getBoolean(context, bean, "active"));
+
+        // Values that are not primitives or need a narrowing conversion are coerced
+        Assertions.assertThrows(ELException.class, () -> resolver.getInt(context, bean, "count"));
+        Assertions.assertThrows(ELException.class, () -> resolver.getBoolean(context, bean, "name"));
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.getInt(context, bean, "missing"));
+
+        ELException e = Assertions.assertThrows(ELException.class, () -> resolver.getInt(context, bean, "brokenCount"));
+        Assertions.assertEquals(IllegalStateException.class, e.getCause().getClass());
+    }
+
+
+    public static class TesterBean {
+
+        private String name;
+        private long count;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public String getBroken() {
+            throw new IllegalStateException();
+        }
+
+        public int getBrokenCount() {
+            throw new IllegalStateException();
+        }
+
+        public boolean isActive() {
+            return true;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import jakarta.el.BeanELResolver.BeanProperties;
 import jakarta.el.BeanELResolver.BeanProperty;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -102,11 +103,82 @@ public class TestBeanSupport extends ELBaseTest {
         doTest(useStandalone, BeanB.class, "defaultValue", String.class, String.class, null);
     }
 
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testPropertyLookup(boolean useStandalone) {
+        configureBeanSupport(useStandalone);
+        BeanProperties beanProperties = BeanSupport.getInstance().getBeanProperties(MultiplePropertyBean.class);
+
+        for (String name : new String[] { "class", "alpha", "beta", "gamma", "delta", "epsilon" }) {
+            BeanProperty beanProperty = beanProperties.getBeanProperty(new String(name));
+            Assertions.assertNotNull(beanProperty, name);
+            Assertions.assertNotNull(beanProperty.getAccessibleReadMethod(), name);
+        }
+        Assertions.assertTrue(beanProperties.getBeanProperty("alpha").isReadOnly());
+        Assertions.assertFalse(beanProperties.getBeanProperty("epsilon").isReadOnly());
+
+        Assertions.assertNull(beanProperties.getBeanProperty("zeta"));
+        Assertions.assertNull(beanProperties.getBeanProperty(""));
+    }
+
+    @Test
+    public void testLazyIntrospection() {
+        configureBeanSupport(true);
+        System.setProperty("jakarta.el.BeanSupport.lazyIntrospection", "true");
+        try {
+            BeanSupport lazy = BeanSupport.getInstance();
+            Assertions.assertTrue(lazy.isLazyIntrospection());
+
+            // Each property must be identical to that found by introspecting the whole class
+            Class<?>[] classes = new Class<?>[] { MultiplePropertyBean.class, SimpleBean.class, InvalidIs01Bean.class,
+                    InvalidIs02Bean.class, InvalidIs03Bean.class, ReadOnlyBean.class, WriteOnlyBean.class,
+                    OverLoadedWithGetABean.class, OverLoadedWithGetAABean.class, OverLoadedWithGetAAABean.class,
+                    MismatchBean.class, AmbiguousBean01.class, AmbiguousBean02.class, BeanB.class };
+            for (Class<?> clazz : classes) {
+                BeanProperties beanProperties = lazy.getBeanProperties(clazz);
+                for (String name : new String[] { "class", "value", "defaultValue", "alpha", "epsilon", "zeta", "" }) {
+                    BeanProperty expected = beanProperties.getBeanProperty(name);
+                    // Twice to use the cached outcome
+                    for (int i = 0; i < 2; i++) {
+                        BeanProperty actual = lazy.getCachedBeanProperty(clazz, name);
+                        if (expected == null) {
+                            Assertions.assertNull(actual, clazz.getName() + "." + name);
+                        } else {
+                            Assertions.assertNotNull(actual, clazz.getName() + "." + name);
+                            Assertions.assertEquals(expected.getPropertyType(), actual.getPropertyType());
+                            Assertions.assertEquals(expected.getReadMethod(), actual.getReadMethod());
+                            Assertions.assertEquals(expected.getWriteMethod(), actual.getWriteMethod());
+                        }
+                    }
+                }
+            }
+        } finally {
+            System.clearProperty("jakarta.el.BeanSupport.lazyIntrospection");
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testNotLazyIntrospection(boolean useStandalone) {
+        configureBeanSupport(useStandalone);
+        BeanSupport beanSupport = BeanSupport.getInstance();
+        Assertions.assertFalse(beanSupport.isLazyIntrospection());
+
+        BeanProperty beanProperty = beanSupport.getCachedBeanProperty(SimpleBean.class, "value");
+        Assertions.assertNotNull(beanProperty);
+        Assertions.assertEquals(TypeA.class, beanProperty.getPropertyType());
+        Assertions.assertNull(beanSupport.getCachedBeanProperty(SimpleBean.class, "zeta"));
+
+        // Introspecting a single property is supported, if not lazy
+        Assertions.assertEquals(TypeA.class, beanSupport.getBeanProperty(SimpleBean.class, "value").getPropertyType());
+        Assertions.assertNull(beanSupport.getBeanProperty(SimpleBean.class, "zeta"));
+    }
+
     private void doTest(boolean useStandalone, Class<?> clazz, String propertyName, Class<?> type, Class<?> typeGet,
             Class<?> typeSet) {
         configureBeanSupport(useStandalone);
         BeanProperties beanProperties = BeanSupport.getInstance().getBeanProperties(clazz);
-        BeanProperty beanProperty = beanProperties.propertyMap.get(propertyName);
+        BeanProperty beanProperty = beanProperties.getBeanProperty(propertyName);
 
         Assertions.assertNotNull(beanProperty);
         Assertions.assertEquals(type, beanProperty.getPropertyType());
@@ -128,6 +200,32 @@ public class TestBeanSupport extends ELBaseTest {
     }
 
 
+    public static class MultiplePropertyBean {
+        public String getAlpha() {
+            return null;
+        }
+
+        public String getBeta() {
+            return null;
+        }
+
+        public String getGamma() {
+            return null;
+        }
+
+        public String getDelta() {
+            return null;
+        }
+
+        public String getEpsilon() {
+            return null;
+        }
+
+        public void setEpsilon(@SuppressWarnings("unused") String epsilon) {
+        }
+    }
+
+
     public static class SimpleBean {
         public TypeA getValue() {
             return null;
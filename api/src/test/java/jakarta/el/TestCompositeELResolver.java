@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCompositeELResolver {
+
+    @Test
+    public void testDispatchPlanSkipsResolvers() {
+        List<String> calls = new ArrayList<>();
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new TesterELResolver("string", String.class, calls));
+        resolver.add(new TesterELResolver("any", null, calls));
+        resolver.setDispatchPlanEnabled(true);
+        Assertions.assertTrue(resolver.isDispatchPlanEnabled());
+
+        ELContext context = new TesterELContext();
+        Assertions.assertEquals("any", resolver.getValue(context, Integer.valueOf(1), "p"));
+        Assertions.assertEquals(List.of("any"), calls);
+
+        calls.clear();
+        context.setPropertyResolved(false);
+        Assertions.assertEquals("string", resolver.getValue(context, "base", "p"));
+        Assertions.assertEquals(List.of("string"), calls);
+    }
+
+    @Test
+    public void testDispatchPlanPreservesOrder() {
+        List<String> calls = new ArrayList<>();
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new TesterELResolver("first", null, calls));
+        resolver.setDispatchPlanEnabled(true);
+
+        ELContext context = new TesterELContext();
+        Assertions.assertEquals("first", resolver.getValue(context, "base", "p"));
+
+        // Adding a resolver must invalidate the existing plan
+        resolver.add(new TesterELResolver("second", String.class, calls));
+        calls.clear();
+        context.setPropertyResolved(false);
+        Assertions.assertEquals("first", resolver.getValue(context, "base", "p"));
+        Assertions.assertEquals(List.of("first"), calls);
+    }
+
+    @Test
+    public void testDispatchPlanNullBase() {
+        List<String> calls = new ArrayList<>();
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new TesterELResolver("string", String.class, calls));
+        resolver.setDispatchPlanEnabled(true);
+
+        ELContext context = new TesterELContext();
+        Assertions.assertEquals("string", resolver.getValue(context, null, "p"));
+    }
+
+    @Test
+    public void testDispatchPlanDisabled() {
+        List<String> calls = new ArrayList<>();
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new TesterELResolver("string", String.class, calls));
+        Assertions.assertFalse(resolver.isDispatchPlanEnabled());
+
+        ELContext context = new TesterELContext();
+        // Without the plan, declared base types are ignored
+        Assertions.assertEquals("string", resolver.getValue(context, Integer.valueOf(1), "p"));
+        Assertions.assertEquals(List.of("string"), calls);
+    }
+
+    @Test
+    public void testDispatchPlanBuiltInResolvers() {
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new MapELResolver());
+        resolver.add(new ListELResolver());
+        resolver.add(new ArrayELResolver());
+        resolver.setDispatchPlanEnabled(true);
+
+        ELContext context = new TesterELContext();
+        Map<String, String> map = new HashMap<>();
+        map.put("key", "value");
+        Assertions.assertEquals("value", resolver.getValue(context, map, "key"));
+
+        context.setPropertyResolved(false);
+        Assertions.assertEquals("b", resolver.getValue(context, List.of("a", "b"), Integer.valueOf(1)));
+
+        context.setPropertyResolved(false);
+        Assertions.assertEquals(Integer.valueOf(3), resolver.getValue(context, new int[] { 1, 2, 3 }, Integer.valueOf(2)));
+
+        context.setPropertyResolved(false);
+        Assertions.assertNull(resolver.getValue(context, Integer.valueOf(1), "key"));
+        Assertions.assertFalse(context.isPropertyResolved());
+    }
+
+    @Test
+    public void testDispatchPlanManyClasses() {
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new MapELResolver());
+        resolver.add(new ArrayELResolver());
+        resolver.setDispatchPlanEnabled(true);
+
+        // More classes of base than there are retained plans
+        ELContext context = new TesterELContext();
+        for (Class<?> componentType : new Class<?>[] { int.class, long.class, String.class, Object.class }) {
+            Class<?> type = componentType;
+            for (int length = 1; length <= 100; length++) {
+                Object array = Array.newInstance(type, length);
+                type = array.getClass();
+                context.setPropertyResolved(false);
+                Assertions.assertEquals(Integer.valueOf(length), resolver.getValue(context, array, "length"));
+                Assertions.assertTrue(context.isPropertyResolved());
+            }
+        }
+
+        context.setPropertyResolved(false);
+        Assertions.assertEquals("value", resolver.getValue(context, Map.of("key", "value"), "key"));
+    }
+
+    @Test
+    public void testPropertyAccessor() {
+        List<String> calls = new ArrayList<>();
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new CompositeELResolver());
+        resolver.add(new TesterELResolver("string", String.class, calls));
+        resolver.add(new MapELResolver());
+        resolver.add(new ArrayELResolver());
+        resolver.add(new RecordELResolver());
+        resolver.add(new BeanELResolver());
+
+        ELContext context = new TesterELContext();
+        Map<String, String> map = new HashMap<>();
+        map.put("key", "value");
+        ELResolver.PropertyAccessor accessor = resolver.getPropertyAccessor(context, map, "key");
+        Assertions.assertEquals("value", accessor.getValue(context, map));
+        Assertions.assertTrue(context.isPropertyResolved());
+        Assertions.assertFalse(accessor.isApplicable(new Object()));
+
+        int[] ints = new int[] { 1, 2, 3 };
+        Assertions.assertEquals(Integer.valueOf(3), resolver.getPropertyAccessor(context, ints, Long.valueOf(2)).getValue(context, ints));
+        Assertions.assertNull(resolver.getPropertyAccessor(context, ints, Integer.valueOf(3)).getValue(context, ints));
+        Assertions.assertEquals(Integer.valueOf(3), resolver.getPropertyAccessor(context, ints, "length").getValue(context, ints));
+
+        TestRecordELResolver.TesterRecord record = new TestRecordELResolver.TesterRecord("name", 42);
+        Assertions.assertEquals("name", resolver.getPropertyAccessor(context, record, "name").getValue(context, record));
+
+        // A resolver that may handle the base but does not provide an accessor prevents linking
+        Assertions.assertNull(resolver.getPropertyAccessor(context, "base", "bytes"));
+        Assertions.assertNull(resolver.getPropertyAccessor(context, null, "key"));
+        Assertions.assertTrue(calls.isEmpty());
+
+        resolver.add(new TesterELResolver("any", null, calls));
+        Assertions.assertArrayEquals(null, resolver.getBaseTypes());
+    }
+
+    @Test
+    public void testPropertyAccessorStandardELContext() {
+        List<String> calls = new ArrayList<>();
+        ExpressionFactory factory = new TesterExpressionFactory() {
+            @Override
+            public ELResolver getStreamELResolver() {
+                // Handles a base of any type but only resolves the property of beans named "stream"
+                return new TesterELResolver("stream", null, calls) {
+                    @Override
+                    public Object getValue(ELContext context, Object base, Object property) {
+                        if (base instanceof TestBeanELResolver.TesterBean &&
+                                "stream".equals(((TestBeanELResolver.TesterBean) base).getName())) {
+                            return super.getValue(context, base, property);
+                        }
+                        return null;
+                    }
+                };
+            }
+        };
+        ELContext[] contexts = new ELContext[] { new StandardELContext(factory),
+                new StandardELContext(factory, StandardELContext.createSharedELResolver(factory)) };
+
+        for (ELContext context : contexts) {
+            ELResolver resolver = context.getELResolver();
+            TestBeanELResolver.TesterBean bean = new TestBeanELResolver.TesterBean();
+            bean.setName("foo");
+
+            // The resolver supporting the collection operations does not prevent linking the bean property
+            ELResolver.PropertyAccessor accessor = resolver.getPropertyAccessor(context, bean, "name");
+            Assertions.assertNotNull(accessor);
+            Assertions.assertFalse(context.isPropertyResolved());
+            Assertions.assertEquals("foo", accessor.getValue(context, bean));
+            Assertions.assertTrue(context.isPropertyResolved());
+
+            // But it is still consulted first
+            TestBeanELResolver.TesterBean streamBean = new TestBeanELResolver.TesterBean();
+            streamBean.setName("stream");
+            calls.clear();
+            Assertions.assertEquals("stream", accessor.getValue(context, streamBean));
+            Assertions.assertEquals(List.of("stream"), calls);
+
+            // And prevents linking if it resolves the property
+            Assertions.assertNull(resolver.getPropertyAccessor(context, streamBean, "name"));
+        }
+    }
+
+    @Test
+    public void testPropertyAccessorOverriddenGetValue() {
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new MapELResolver() {
+            @Override
+            public Object getValue(ELContext context, Object base, Object property) {
+                Object value = super.getValue(context, base, property);
+                return value == null ? "default" : value;
+            }
+        });
+        resolver.add(new BeanELResolver() {
+            @Override
+            public Object getValue(ELContext context, Object base, Object property) {
+                throw new PropertyNotFoundException();
+            }
+        });
+
+        // The overriding getValue() implementations must not be bypassed
+        ELContext context = new TesterELContext();
+        Assertions.assertNull(resolver.getPropertyAccessor(context, new HashMap<>(), "key"));
+        Assertions.assertNull(resolver.getPropertyAccessor(context, new TestBeanELResolver.TesterBean(), "name"));
+        Assertions.assertNull(new MapELResolver() {
+            @Override
+            public Object getValue(ELContext context, Object base, Object property) {
+                return null;
+            }
+        }.getPropertyAccessor(context, new HashMap<>(), "key"));
+
+        // As is a composite that overrides getValue()
+        CompositeELResolver composite = new CompositeELResolver() {
+            @Override
+            public Object getValue(ELContext context, Object base, Object property) {
+                return null;
+            }
+        };
+        composite.add(new MapELResolver());
+        Assertions.assertNull(composite.getPropertyAccessor(context, new HashMap<>(), "key"));
+        Assertions.assertNotNull(new MapELResolver().getPropertyAccessor(context, new HashMap<>(), "key"));
+    }
+
+    @Test
+    public void testResolveValue() {
+        List<String> calls = new ArrayList<>();
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new MapELResolver());
+        resolver.add(new BeanNameELResolver(new BeanNameResolver() {
+        }));
+
+        ELContext context = new TesterELContext();
+        List<Object> resolved = new ArrayList<>();
+        context.addEvaluationListener(new EvaluationListener() {
+            @Override
+            public void propertyResolved(ELContext context, Object base, Object property) {
+                resolved.add(property);
+            }
+        });
+
+        Map<String, String> map = new HashMap<>();
+        map.put("key", "value");
+        context.setPropertyResolved(true);
+        Assertions.assertSame(ELResolver.NOT_RESOLVED, resolver.resolveValue(context, null, "missing"));
+        Assertions.assertEquals("value", resolver.resolveValue(context, map, "key"));
+        Assertions.assertNull(resolver.resolveValue(context, map, "missing"));
+        Assertions.assertEquals(List.of("key", "missing"), resolved);
+
+        // The flag based protocol is unchanged
+        Assertions.assertNull(resolver.getValue(context, null, "missing"));
+        Assertions.assertFalse(context.isPropertyResolved());
+        Assertions.assertNull(resolver.getValue(context, map, "missing"));
+        Assertions.assertTrue(context.isPropertyResolved());
+        Assertions.assertEquals(List.of("key", "missing", "missing"), resolved);
+
+        // Resolvers that only implement getValue() are bridged
+        resolver.add(new TesterELResolver("string", String.class, calls));
+        Assertions.assertEquals("string", resolver.resolveValue(context, "base", "p"));
+        Assertions.assertEquals(List.of("string"), calls);
+        Assertions.assertEquals(List.of("key", "missing", "missing", "p"), resolved);
+    }
+
+    @Test
+    public void testResolveValueOverriddenGetValue() {
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new MapELResolver() {
+            @Override
+            public Object getValue(ELContext context, Object base, Object property) {
+                Object value = super.getValue(context, base, property);
+                return value == null ? "default" : value;
+            }
+        });
+
+        ELContext context = new TesterELContext();
+        Map<String, String> map = new HashMap<>();
+        Assertions.assertEquals("default", resolver.resolveValue(context, map, "key"));
+        Assertions.assertEquals("default", resolver.getValue(context, map, "key"));
+        Assertions.assertSame(ELResolver.NOT_RESOLVED, resolver.resolveValue(context, "base", "key"));
+    }
+
+    @Test
+    public void testGetPrimitive() {
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new MapELResolver());
+        resolver.add(new ArrayELResolver());
+        resolver.setDispatchPlanEnabled(true);
+
+        ELContext context = new TesterELContext();
+        Assertions.assertEquals(3, resolver.getInt(context, new int[] { 1, 2, 3 }, Integer.valueOf(2)));
+        Assertions.assertTrue(context.isPropertyResolved());
+
+        Map<String, Integer> map = new HashMap<>();
+        map.put("key", Integer.valueOf(4));
+        Assertions.assertEquals(4, resolver.getInt(context, map, "key"));
+        Assertions.assertTrue(context.isPropertyResolved());
+
+        Assertions.assertEquals(0, resolver.getInt(context, Integer.valueOf(1), "key"));
+        Assertions.assertFalse(context.isPropertyResolved());
+    }
+
+
+    private static class TesterELResolver extends ELResolver {
+
+        private final String name;
+        private final Class<?> baseType;
+        private final List<String> calls;
+
+        TesterELResolver(String name, Class<?> baseType, List<String> calls) {
+            this.name = name;
+            this.baseType = baseType;
+            this.calls = calls;
+        }
+
+        @Override
+        public Object getValue(ELContext context, Object base, Object property) {
+            calls.add(name);
+            context.setPropertyResolved(base, property);
+            return name;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context, Object base, Object property) {
+            return null;
+        }
+
+        @Override
+        public void setValue(ELContext context, Object base, Object property, Object value) {
+            // NO-OP
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context, Object base, Object property) {
+            return false;
+        }
+
+        @Override
+        public Class<?> getCommonPropertyType(ELContext context, Object base) {
+            return null;
+        }
+
+        @Override
+        public Class<?>[] getBaseTypes() {
+            return baseType == null ? null : new Class<?>[] { baseType };
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package jakarta.el;
 
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
@@ -54,6 +55,144 @@ public class TestELContext {
     }
 
 
+    @Test
+    public void testLambdaScopeArrays() {
+        ELContext elContext = new SimpleELContextImpl();
+
+        Map<String,Object> outerParams = new HashMap<>();
+        outerParams.put(NAME, VALUE_NON_NULL);
+        outerParams.put("y", "y");
+
+        elContext.enterLambdaScope(outerParams);
+        elContext.enterLambdaScope(new String[] { NAME, "z" }, new Object[] { VALUE_NULL, "z", "ignored" });
+
+        // Inner, null value hides the outer value
+        Assertions.assertTrue(elContext.isLambdaArgument(NAME));
+        Assertions.assertNull(elContext.getLambdaArgument(NAME));
+        Assertions.assertEquals("y", elContext.getLambdaArgument("y"));
+        Assertions.assertEquals("z", elContext.getLambdaArgument("z"));
+        Assertions.assertFalse(elContext.isLambdaArgument("ignored"));
+
+        elContext.exitLambdaScope();
+        Assertions.assertEquals(VALUE_NON_NULL, elContext.getLambdaArgument(NAME));
+        Assertions.assertFalse(elContext.isLambdaArgument("z"));
+
+        elContext.exitLambdaScope();
+        Assertions.assertFalse(elContext.isLambdaArgument(NAME));
+    }
+
+
+    @Test
+    public void testLambdaScopeArraysDeep() {
+        ELContext elContext = new SimpleELContextImpl();
+
+        for (int i = 0; i < 20; i++) {
+            elContext.enterLambdaScope(new String[] { "a" + i }, new Object[] { Integer.valueOf(i) });
+        }
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertEquals(Integer.valueOf(i), elContext.getLambdaArgument("a" + i));
+        }
+        for (int i = 0; i < 20; i++) {
+            elContext.exitLambdaScope();
+        }
+        Assertions.assertFalse(elContext.isLambdaArgument("a0"));
+    }
+
+
+    @Test
+    public void testLambdaScopeArraysTooFewValues() {
+        ELContext elContext = new SimpleELContextImpl();
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> elContext.enterLambdaScope(new String[] { NAME }, new Object[0]));
+    }
+
+
+    @Test
+    public void testLambdaScopeArraysWithDelegatingContext() {
+        ELContext wrapped = new SimpleELContextImpl();
+        ELContext elContext = new DelegatingELContextImpl(wrapped);
+
+        // The arguments must be visible via the Map based methods the sub-class overrides
+        elContext.enterLambdaScope(new String[] { NAME }, new Object[] { VALUE_NON_NULL });
+        Assertions.assertEquals(VALUE_NON_NULL, wrapped.getLambdaArgument(NAME));
+        Assertions.assertEquals(VALUE_NON_NULL, elContext.getLambdaArgument(NAME));
+
+        elContext.exitLambdaScope();
+        Assertions.assertFalse(wrapped.isLambdaArgument(NAME));
+    }
+
+
+    @Test
+    public void testReset() {
+        ELContext elContext = new SimpleELContextImpl();
+        elContext.setPropertyResolved(true);
+        elContext.putContext(String.class, VALUE_NON_NULL);
+        elContext.setLocale(Locale.ENGLISH);
+        elContext.enterLambdaScope(new String[] { NAME }, new Object[] { VALUE_NON_NULL });
+        ImportHandler importHandler = elContext.getImportHandler();
+
+        elContext.reset();
+
+        Assertions.assertFalse(elContext.isPropertyResolved());
+        Assertions.assertNull(elContext.getContext(String.class));
+        Assertions.assertNull(elContext.getLocale());
+        Assertions.assertFalse(elContext.isLambdaArgument(NAME));
+        Assertions.assertSame(importHandler, elContext.getImportHandler());
+
+        // The lambda stack must be usable after a reset
+        elContext.enterLambdaScope(new String[] { NAME }, new Object[] { VALUE_NON_NULL });
+        Assertions.assertEquals(VALUE_NON_NULL, elContext.getLambdaArgument(NAME));
+        elContext.exitLambdaScope();
+    }
+
+
+    @Test
+    public void testContextObjects() {
+        ELContext elContext = new SimpleELContextImpl();
+        Assertions.assertNull(elContext.getContext(String.class));
+
+        elContext.putContext(String.class, VALUE_NON_NULL);
+        elContext.putContext(Integer.class, Integer.valueOf(1));
+        Assertions.assertEquals(VALUE_NON_NULL, elContext.getContext(String.class));
+        Assertions.assertEquals(Integer.valueOf(1), elContext.getContext(Integer.class));
+
+        elContext.putContext(Integer.class, Integer.valueOf(2));
+        Assertions.assertEquals(Integer.valueOf(2), elContext.getContext(Integer.class));
+
+        // Context objects are not shared between contexts
+        Assertions.assertNull(new SimpleELContextImpl().getContext(String.class));
+
+        Assertions.assertThrows(NullPointerException.class, () -> elContext.putContext(null, VALUE_NON_NULL));
+        Assertions.assertThrows(NullPointerException.class, () -> elContext.putContext(String.class, null));
+        Assertions.assertThrows(NullPointerException.class, () -> elContext.getContext(null));
+    }
+
+
+    @Test
+    public void testContextObjectsManyKeys() {
+        ELContext elContext = new SimpleELContextImpl();
+
+        // More key classes than there are slots
+        Class<?>[] keys = new Class<?>[100];
+        Class<?> key = TestELContext.class;
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key;
+            elContext.putContext(key, Integer.valueOf(i));
+            key = key.arrayType();
+        }
+
+        for (int i = 0; i < keys.length; i++) {
+            Assertions.assertEquals(Integer.valueOf(i), elContext.getContext(keys[i]));
+        }
+
+        elContext.reset();
+        for (int i = 0; i < keys.length; i++) {
+            Assertions.assertNull(elContext.getContext(keys[i]));
+        }
+    }
+
+
     private static class SimpleELContextImpl extends ELContext {
 
         @Override
@@ -71,4 +210,34 @@ public class TestELContext {
             return null;
         }
     }
+
+
+    private static class DelegatingELContextImpl extends SimpleELContextImpl {
+
+        private final ELContext wrapped;
+
+        DelegatingELContextImpl(ELContext wrapped) {
+            this.wrapped = wrapped;
+        }
+
+        @Override
+        public boolean isLambdaArgument(String arg) {
+            return wrapped.isLambdaArgument(arg);
+        }
+
+        @Override
+        public Object getLambdaArgument(String arg) {
+            return wrapped.getLambdaArgument(arg);
+        }
+
+        @Override
+        public void enterLambdaScope(Map<String,Object> args) {
+            wrapped.enterLambdaScope(args);
+        }
+
+        @Override
+        public void exitLambdaScope() {
+            wrapped.exitLambdaScope();
+        }
+    }
 }
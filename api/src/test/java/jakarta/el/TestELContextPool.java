@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestELContextPool {
+
+    @Test
+    public void testAcquireRelease() {
+        ExpressionFactory factory = new TesterExpressionFactory();
+        ELContextPool<StandardELContext> pool = new ELContextPool<>(() -> new StandardELContext(factory), 2);
+
+        StandardELContext context = pool.acquire();
+        ELResolver resolver = context.getELResolver();
+        context.getBeans().put("bean", "value");
+        context.putContext(String.class, "value");
+        context.setPropertyResolved(true);
+
+        pool.release(context);
+        Assertions.assertEquals(1, pool.getIdleCount());
+
+        StandardELContext reused = pool.acquire();
+        Assertions.assertSame(context, reused);
+        Assertions.assertEquals(0, pool.getIdleCount());
+        // The resolver chain is retained but per request state is not
+        Assertions.assertSame(resolver, reused.getELResolver());
+        Assertions.assertTrue(reused.getBeans().isEmpty());
+        Assertions.assertNull(reused.getContext(String.class));
+        Assertions.assertFalse(reused.isPropertyResolved());
+        Assertions.assertNull(reused.getELResolver().getValue(reused, null, "bean"));
+    }
+
+    @Test
+    public void testMaxIdle() {
+        ExpressionFactory factory = new TesterExpressionFactory();
+        ELContextPool<StandardELContext> pool = new ELContextPool<>(() -> new StandardELContext(factory), 1);
+
+        StandardELContext context1 = pool.acquire();
+        StandardELContext context2 = pool.acquire();
+        Assertions.assertNotSame(context1, context2);
+
+        pool.release(context1);
+        pool.release(context2);
+        Assertions.assertEquals(1, pool.getIdleCount());
+
+        pool.clear();
+        Assertions.assertEquals(0, pool.getIdleCount());
+    }
+
+    @Test
+    public void testInvalidMaxIdle() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ELContextPool<>(() -> new StandardELContext(new TesterExpressionFactory()), 0));
+    }
+}
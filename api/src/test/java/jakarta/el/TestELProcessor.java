@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestELProcessor {
+
+    @Test
+    public void testExpressionCache() {
+        ELProcessor processor = new ELProcessor();
+        processor.setExpressionCacheSize(256);
+
+        int created = TesterExpressionFactory.CREATE_COUNT.get();
+        Assertions.assertEquals("${a}", processor.eval("a"));
+        Assertions.assertEquals("${a}", processor.eval("a"));
+        Assertions.assertEquals("${a}", processor.getValue("a", String.class));
+
+        // Different expected type is a different cache entry
+        Assertions.assertEquals(created + 2, TesterExpressionFactory.CREATE_COUNT.get());
+        Assertions.assertEquals(1, processor.getExpressionCacheHitCount());
+        Assertions.assertEquals(2, processor.getExpressionCacheMissCount());
+
+        Assertions.assertSame(processor.compile("a"), processor.compile("a"));
+        Assertions.assertSame(processor.compile("a", String.class), processor.compile("a", String.class));
+        Assertions.assertNotSame(processor.compile("a"), processor.compile("a", String.class));
+    }
+
+    @Test
+    public void testExpressionCacheEviction() {
+        ELProcessor processor = new ELProcessor();
+        processor.setExpressionCacheSize(2);
+        Assertions.assertEquals(2, processor.getExpressionCacheSize());
+
+        ValueExpression a = processor.compile("a");
+        processor.compile("b");
+        // Use a so b is the least recently used
+        Assertions.assertSame(a, processor.compile("a"));
+        processor.compile("c");
+
+        Assertions.assertSame(a, processor.compile("a"));
+        long misses = processor.getExpressionCacheMissCount();
+        processor.compile("b");
+        Assertions.assertEquals(misses + 1, processor.getExpressionCacheMissCount());
+    }
+
+    @Test
+    public void testExpressionCacheConcurrent() throws Exception {
+        ELProcessor processor = new ELProcessor();
+        processor.setExpressionCacheSize(8);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        String expression = "e" + (i % 16);
+                        ValueExpression exp = processor.compile(expression);
+                        Assertions.assertEquals("${" + expression + "}", exp.getExpressionString());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(4000, processor.getExpressionCacheHitCount() + processor.getExpressionCacheMissCount());
+    }
+
+    @Test
+    public void testExpressionCacheDisabled() {
+        ELProcessor processor = new ELProcessor();
+
+        // Disabled by default
+        Assertions.assertEquals(0, processor.getExpressionCacheSize());
+        Assertions.assertNotSame(processor.compile("a"), processor.compile("a"));
+
+        processor.setExpressionCacheSize(1);
+        Assertions.assertSame(processor.compile("a"), processor.compile("a"));
+        processor.setExpressionCacheSize(0);
+        Assertions.assertNotSame(processor.compile("a"), processor.compile("a"));
+        Assertions.assertEquals(0, processor.getExpressionCacheHitCount());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> processor.setExpressionCacheSize(-1));
+    }
+
+    @Test
+    public void testExpressionCacheInvalidation() throws Exception {
+        ELProcessor processor = new ELProcessor();
+        processor.setExpressionCacheSize(256);
+
+        ValueExpression a = processor.compile("a");
+        Assertions.assertSame(a, processor.compile("a"));
+
+        // Variables, functions and imports may change the result of parsing
+        processor.setVariable("v", "b");
+        ValueExpression a2 = processor.compile("a");
+        Assertions.assertNotSame(a, a2);
+
+        processor.getELManager().importPackage("java.util");
+        ValueExpression a3 = processor.compile("a");
+        Assertions.assertNotSame(a2, a3);
+
+        processor.defineFunction("", "max", Math.class.getMethod("max", int.class, int.class));
+        Assertions.assertNotSame(a3, processor.compile("a"));
+
+        // Beans do not change the result of parsing
+        ValueExpression a4 = processor.compile("a");
+        processor.defineBean("bean", "bean");
+        Assertions.assertSame(a4, processor.compile("a"));
+
+        processor.clearExpressionCache();
+        Assertions.assertNotSame(a4, processor.compile("a"));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2023, 2026 Contributors to the Eclipse Foundation
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -15,9 +15,19 @@
  */
 package jakarta.el;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
 import java.util.TimeZone;
 
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -34,4 +44,207 @@ public class TestELUtil extends ELBaseTest {
         Method m = ELUtil.findMethod(tz.getClass(), tz, "getRawOffset", null, null);
         m.invoke(tz);
     }
+
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testFindMethodOverloadCached(boolean useStandalone) throws Exception {
+        configureBeanSupport(useStandalone);
+        TesterOverloads bean = new TesterOverloads();
+        Method m1 = ELUtil.findMethod(bean.getClass(), bean, "format", null, new Object[] { "a" });
+        Assertions.assertEquals(String.class, m1.getParameterTypes()[0]);
+        Class<?>[] integerType = new Class<?>[] { Integer.class };
+        Class<?>[] objectType = new Class<?>[] { Object.class };
+        Method m2 = ELUtil.findMethod(bean.getClass(), bean, "format", integerType, null);
+        Assertions.assertEquals(Object.class, m2.getParameterTypes()[0]);
+        Method m3 = ELUtil.findMethod(bean.getClass(), bean, "format", objectType, new Object[] { "a" });
+        Assertions.assertEquals(Object.class, m3.getParameterTypes()[0]);
+
+        // Each overload resolution is now a cache hit
+        long hits = ELUtil.getMethodCacheHitCount();
+        long misses = ELUtil.getMethodCacheMissCount();
+        Assertions.assertSame(m1, ELUtil.findMethod(bean.getClass(), bean, "format", null, new Object[] { "b" }));
+        Assertions.assertSame(m2, ELUtil.findMethod(bean.getClass(), bean, "format", integerType, null));
+        Assertions.assertSame(m3, ELUtil.findMethod(bean.getClass(), bean, "format", objectType, new Object[] { "a" }));
+        Assertions.assertEquals(hits + 3, ELUtil.getMethodCacheHitCount());
+        Assertions.assertEquals(misses, ELUtil.getMethodCacheMissCount());
+    }
+
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testFindMethodCacheValueDependent(boolean useStandalone) throws Exception {
+        configureBeanSupport(useStandalone);
+        TesterOverloads bean = new TesterOverloads();
+        Class<?>[] booleanType = new Class<?>[] { Boolean.class };
+        Class<?>[] objectType = new Class<?>[] { Object.class };
+
+        // Selected on the parameter types alone so the second look-up is a cache hit
+        Assertions.assertEquals(Object.class,
+                ELUtil.findMethod(bean.getClass(), bean, "pick", booleanType, null).getParameterTypes()[0]);
+        long hits = ELUtil.getMethodCacheHitCount();
+        Assertions.assertEquals(Object.class,
+                ELUtil.findMethod(bean.getClass(), bean, "pick", booleanType, null).getParameterTypes()[0]);
+        Assertions.assertEquals(hits + 1, ELUtil.getMethodCacheHitCount());
+
+        // Selected by coercing the parameter value so every look-up is a cache miss
+        Object[] values = new Object[] { Integer.valueOf(1) };
+        Assertions.assertEquals(int.class,
+                ELUtil.findMethod(bean.getClass(), bean, "coerce", objectType, values).getParameterTypes()[0]);
+        long misses = ELUtil.getMethodCacheMissCount();
+        Assertions.assertEquals(int.class,
+                ELUtil.findMethod(bean.getClass(), bean, "coerce", objectType, values).getParameterTypes()[0]);
+        Assertions.assertEquals(misses + 1, ELUtil.getMethodCacheMissCount());
+    }
+
+
+    @Test
+    public void testFindMethodWithoutCoercion() throws Exception {
+        TesterOverloads bean = new TesterOverloads();
+        int coerceCount = TesterExpressionFactory.COERCE_COUNT.get();
+
+        // The candidate that does not match is rejected without attempting the coercion
+        Assertions.assertEquals(long.class,
+                ELUtil.findMethod(bean.getClass(), bean, "apply", null, new Object[] { "42" }).getParameterTypes()[0]);
+        Assertions.assertEquals(long.class, ELUtil.findMethod(bean.getClass(), bean, "apply", null,
+                new Object[] { Integer.valueOf(42) }).getParameterTypes()[0]);
+        Assertions.assertThrows(MethodNotFoundException.class,
+                () -> ELUtil.findMethod(bean.getClass(), bean, "apply", null, new Object[] { "forty-two" }));
+
+        Assertions.assertEquals(coerceCount, TesterExpressionFactory.COERCE_COUNT.get());
+    }
+
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testFindConstructorCached(boolean useStandalone) throws Exception {
+        configureBeanSupport(useStandalone);
+        Constructor<?> c1 = ELUtil.findConstructor(TesterConstructors.class, null, new Object[] { "a" });
+        Assertions.assertEquals(String.class, c1.getParameterTypes()[0]);
+        Assertions.assertSame(c1, ELUtil.findConstructor(TesterConstructors.class, null, new Object[] { "b" }));
+
+        Constructor<?> c2 = ELUtil.findConstructor(TesterConstructors.class, new Class<?>[] { Integer.class }, null);
+        Assertions.assertEquals(Object.class, c2.getParameterTypes()[0]);
+    }
+
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testInvokeConstructor(boolean useStandalone) throws Exception {
+        configureBeanSupport(useStandalone);
+        ELContext context = new ELManager().getELContext();
+
+        Constructor<?> c = ELUtil.findConstructor(TesterConstructors.class, null, new Object[] { "a" });
+        TesterConstructors result = (TesterConstructors) ELUtil.invokeConstructor(context, c, new Object[] { "a" });
+        Assertions.assertEquals("String a", result.value);
+
+        // The MethodHandle for the constructor is reused
+        long created = ELUtil.getConstructorHandleCreatedCount();
+        result = (TesterConstructors) ELUtil.invokeConstructor(context, c, new Object[] { "b" });
+        Assertions.assertEquals("String b", result.value);
+        Assertions.assertEquals(created, ELUtil.getConstructorHandleCreatedCount());
+
+        // Varargs
+        c = ELUtil.findConstructor(TesterConstructors.class, null, new Object[] { Integer.valueOf(1), "a", "b" });
+        result = (TesterConstructors) ELUtil.invokeConstructor(context, c, new Object[] { Integer.valueOf(1), "a", "b" });
+        Assertions.assertEquals("int 1 [a, b]", result.value);
+
+        // Exception thrown by the constructor
+        Constructor<?> failing = ELUtil.findConstructor(TesterConstructors.class, null, new Object[] { Boolean.TRUE });
+        ELException e = Assertions.assertThrows(ELException.class,
+                () -> ELUtil.invokeConstructor(context, failing, new Object[] { Boolean.TRUE }));
+        Assertions.assertEquals(IllegalStateException.class, e.getCause().getClass());
+    }
+
+    @Test
+    public void testLazyExceptionMessage() {
+        ELContext context = new ELManager().getELContext();
+        context.setLocale(Locale.ENGLISH);
+        Object[] params = new Object[] { "TesterBean", "foo" };
+
+        String expected = ELUtil.getExceptionMessageString(context, "propertyNotFound", params);
+        PropertyNotFoundException e = new PropertyNotFoundException(
+                ELUtil.getLazyExceptionMessage(context, "propertyNotFound", params));
+
+        // The locale is captured when the message is created
+        context.setLocale(Locale.GERMAN);
+        Assertions.assertEquals(expected, e.getMessage());
+        Assertions.assertEquals(expected, e.getMessage());
+        Assertions.assertEquals(PropertyNotFoundException.class.getName() + ": " + expected, e.toString());
+
+        Assertions.assertEquals("", new ELException(ELUtil.getLazyExceptionMessage(null, "propertyNotFound", null)).getMessage());
+    }
+
+    @Test
+    public void testLazyExceptionMessageSerialization() throws Exception {
+        ELContext context = new ELManager().getELContext();
+        context.setLocale(Locale.ENGLISH);
+        Object[] params = new Object[] { "TesterBean", "foo" };
+
+        String expected = ELUtil.getExceptionMessageString(context, "propertyNotWritable", params);
+        PropertyNotWritableException e = new PropertyNotWritableException(
+                ELUtil.getLazyExceptionMessage(context, "propertyNotWritable", params));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(e);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assertions.assertEquals(expected, ((Exception) in.readObject()).getMessage());
+        }
+    }
+
+
+    public static class TesterConstructors {
+
+        private final String value;
+
+        public TesterConstructors(Object o) {
+            value = "Object " + o;
+        }
+
+        public TesterConstructors(String s) {
+            value = "String " + s;
+        }
+
+        public TesterConstructors(int i, String... s) {
+            value = "int " + i + " " + Arrays.toString(s);
+        }
+
+        public TesterConstructors(Boolean b) {
+            throw new IllegalStateException();
+        }
+    }
+
+
+    public static class TesterOverloads {
+
+        public String format(Object o) {
+            return "Object";
+        }
+
+        public String format(String s) {
+            return "String";
+        }
+
+        public String pick(int i) {
+            return "int";
+        }
+
+        public String pick(Object o) {
+            return "Object";
+        }
+
+        public String coerce(int i) {
+            return "int";
+        }
+
+        public String apply(long l) {
+            return "long";
+        }
+
+        public String apply(Date d) {
+            return "Date";
+        }
+    }
 }
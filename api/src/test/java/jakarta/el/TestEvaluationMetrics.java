@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEvaluationMetrics {
+
+    @Test
+    public void testExpressionLatencies() {
+        EvaluationMetrics metrics = new EvaluationMetrics();
+        ELContext context = new TesterELContext();
+        context.addEvaluationListener(metrics);
+
+        context.notifyBeforeEvaluation("${outer}");
+        context.notifyBeforeEvaluation("${inner}");
+        context.notifyAfterEvaluation("${inner}");
+        context.notifyAfterEvaluation("${outer}");
+        context.notifyBeforeEvaluation("${inner}");
+        context.notifyAfterEvaluation("${inner}");
+
+        Map<String, EvaluationMetrics.LatencyHistogram> latencies = metrics.snapshot().getExpressionLatencies();
+        Assertions.assertEquals(2, latencies.size());
+        EvaluationMetrics.LatencyHistogram outer = latencies.get("${outer}");
+        EvaluationMetrics.LatencyHistogram inner = latencies.get("${inner}");
+        Assertions.assertEquals(1, outer.getCount());
+        Assertions.assertEquals(2, inner.getCount());
+        Assertions.assertTrue(inner.getPercentileNanos(100) <= inner.getMaxNanos());
+
+        long bucketTotal = 0;
+        for (long bucketCount : inner.getBucketCounts()) {
+            bucketTotal += bucketCount;
+        }
+        Assertions.assertEquals(2, bucketTotal);
+
+        metrics.reset();
+        Assertions.assertTrue(metrics.snapshot().getExpressionLatencies().isEmpty());
+    }
+
+    @Test
+    public void testMaxExpressions() {
+        EvaluationMetrics metrics = new EvaluationMetrics(1);
+        ELContext context = new TesterELContext();
+        context.addEvaluationListener(metrics);
+
+        context.notifyBeforeEvaluation("${a}");
+        context.notifyAfterEvaluation("${a}");
+        context.notifyBeforeEvaluation("${b}");
+        context.notifyAfterEvaluation("${b}");
+
+        EvaluationMetrics.Snapshot snapshot = metrics.snapshot();
+        Assertions.assertEquals(1, snapshot.getExpressionLatencies().size());
+        Assertions.assertEquals(1, snapshot.getUntrackedEvaluationCount());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new EvaluationMetrics(-1));
+    }
+
+    @Test
+    public void testMultipleInstances() {
+        EvaluationMetrics metrics1 = new EvaluationMetrics();
+        EvaluationMetrics metrics2 = new EvaluationMetrics();
+        ELContext context = new TesterELContext();
+        context.addEvaluationListener(metrics1);
+        context.addEvaluationListener(metrics2);
+
+        context.notifyBeforeEvaluation("${a}");
+        context.notifyAfterEvaluation("${a}");
+
+        Assertions.assertEquals(1, metrics1.snapshot().getExpressionLatencies().get("${a}").getCount());
+        Assertions.assertEquals(1, metrics2.snapshot().getExpressionLatencies().get("${a}").getCount());
+    }
+
+    @Test
+    public void testResolverHitCounts() {
+        EvaluationMetrics metrics = new EvaluationMetrics();
+        ELContext context = new TesterELContext();
+        context.addEvaluationListener(metrics);
+
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new ListELResolver());
+        resolver.add(new MapELResolver());
+
+        Map<String, String> map = new HashMap<>();
+        map.put("key", "value");
+        Assertions.assertEquals("value", resolver.getValue(context, map, "key"));
+        Assertions.assertFalse(resolver.isReadOnly(context, map, "key"));
+
+        Map<String, Long> hitCounts = metrics.snapshot().getResolverHitCounts();
+        Assertions.assertEquals(1, hitCounts.size());
+        Assertions.assertEquals(Long.valueOf(2), hitCounts.get(MapELResolver.class.getName()));
+    }
+
+    @Test
+    public void testMethodCacheStatistics() {
+        EvaluationMetrics metrics = new EvaluationMetrics();
+
+        Class<?>[] paramTypes = new Class<?>[] { String.class };
+        ELUtil.findMethod(String.class, "", "concat", paramTypes, new Object[] { "a" });
+        long hits = metrics.snapshot().getMethodCacheHitCount();
+        ELUtil.findMethod(String.class, "", "concat", paramTypes, new Object[] { "a" });
+
+        AtomicReference<EvaluationMetrics.Snapshot> published = new AtomicReference<>();
+        metrics.publish(published::set);
+        Assertions.assertEquals(hits + 1, published.get().getMethodCacheHitCount());
+        Assertions.assertTrue(published.get().getMethodCacheMissCount() > 0);
+    }
+}
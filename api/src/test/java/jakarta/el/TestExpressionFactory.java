@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestExpressionFactory {
+
+    @Test
+    public void testCanCoerceToType() {
+        CountingExpressionFactory factory = new CountingExpressionFactory();
+
+        Assertions.assertTrue(factory.canCoerceToType(null, String.class));
+        Assertions.assertTrue(factory.canCoerceToType(null, int.class));
+        Assertions.assertTrue(factory.canCoerceToType("a", String.class));
+        Assertions.assertTrue(factory.canCoerceToType(Integer.valueOf(1), int.class));
+        Assertions.assertTrue(factory.canCoerceToType(Integer.valueOf(1), Number.class));
+        Assertions.assertTrue(factory.canCoerceToType(Integer.valueOf(1), String.class));
+        Assertions.assertTrue(factory.canCoerceToType(Integer.valueOf(1), long.class));
+        Assertions.assertTrue(factory.canCoerceToType(Character.valueOf('a'), Integer.class));
+        Assertions.assertTrue(factory.canCoerceToType(Long.valueOf(1), BigDecimal.class));
+        Assertions.assertTrue(factory.canCoerceToType("", TimeUnit.class));
+        Assertions.assertTrue(factory.canCoerceToType("SECONDS", TimeUnit.class));
+        Assertions.assertTrue(factory.canCoerceToType("yes", Boolean.class));
+        Assertions.assertTrue(factory.canCoerceToType(new Integer[] { Integer.valueOf(1) }, long[].class));
+
+        Assertions.assertFalse(factory.canCoerceToType(new Object(), Integer.class));
+        Assertions.assertFalse(factory.canCoerceToType(Boolean.TRUE, int.class));
+        Assertions.assertFalse(factory.canCoerceToType(Integer.valueOf(1), Boolean.class));
+        Assertions.assertFalse(factory.canCoerceToType(Integer.valueOf(1), TimeUnit.class));
+        Assertions.assertFalse(factory.canCoerceToType("MINUTE", TimeUnit.class));
+        Assertions.assertFalse(factory.canCoerceToType(Integer.valueOf(1), Date.class));
+        Assertions.assertFalse(factory.canCoerceToType(new Object(), Runnable.class));
+        Assertions.assertFalse(factory.canCoerceToType(new Object[] { Boolean.TRUE }, long[].class));
+
+        // Neither coercion nor the exceptions it throws are used
+        Assertions.assertEquals(0, factory.coerceCount);
+
+        Assertions.assertThrows(NullPointerException.class, () -> factory.canCoerceToType("a", null));
+    }
+
+    @Test
+    public void testCanCoerceStringToNumber() {
+        ExpressionFactory factory = new TesterExpressionFactory();
+
+        String[] integers = { "", "0", "-1", "+1", "007", "127", "-128", "32767", "2147483647", "9223372036854775807",
+                "-9223372036854775808", "99999999999999999999", "1.5", "1e3", "0x10", "-", "+", " 1", "a", "1_000",
+                "\u0661" };
+        for (String s : integers) {
+            Assertions.assertEquals(accepts(() -> Byte.valueOf(s), s), factory.canCoerceToType(s, byte.class), s);
+            Assertions.assertEquals(accepts(() -> Short.valueOf(s), s), factory.canCoerceToType(s, Short.class), s);
+            Assertions.assertEquals(accepts(() -> Integer.valueOf(s), s), factory.canCoerceToType(s, int.class), s);
+            Assertions.assertEquals(accepts(() -> Long.valueOf(s), s), factory.canCoerceToType(s, Long.class), s);
+            Assertions.assertEquals(accepts(() -> new BigInteger(s), s), factory.canCoerceToType(s, BigInteger.class), s);
+        }
+
+        String[] decimals = { "", "1", "-1.5", "+.5", "1.", ".", "1e3", "1E-3", "1e", "1e+", "2.5e1234567890",
+                "1e2147483648", "1.5e-2147483647", "1e00000000000000003", "1e12345678901", "\u0661.5", " 1.5 ", "1.5d",
+                "1.5F", "NaN", "-Infinity", "Infinityd", "0x1p3", "0x1.8P-1", "0x.8p1", "0x1", "0xp1", "1..2", "a" };
+        for (String s : decimals) {
+            Assertions.assertEquals(accepts(() -> Double.valueOf(s), s), factory.canCoerceToType(s, double.class), s);
+            Assertions.assertEquals(accepts(() -> Float.valueOf(s), s), factory.canCoerceToType(s, Float.class), s);
+            Assertions.assertEquals(accepts(() -> new BigDecimal(s), s), factory.canCoerceToType(s, BigDecimal.class), s);
+        }
+    }
+
+    private static boolean accepts(Runnable valueOf, String s) {
+        if (s.isEmpty()) {
+            // Coerced to zero
+            return true;
+        }
+        try {
+            valueOf.run();
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+
+    @Test
+    public void testNewInstanceCachesProviderClass() {
+        Thread currentThread = Thread.currentThread();
+        ClassLoader original = currentThread.getContextClassLoader();
+        CountingClassLoader classLoader = new CountingClassLoader(original);
+        currentThread.setContextClassLoader(classLoader);
+        try {
+            ExpressionFactory factory1 = ExpressionFactory.newInstance();
+            Assertions.assertEquals(TesterExpressionFactory.class, factory1.getClass());
+            int loads = classLoader.loads;
+            Assertions.assertTrue(loads > 0);
+
+            // A new instance is created without repeating the class loading
+            ExpressionFactory factory2 = ExpressionFactory.newInstance(new Properties());
+            Assertions.assertEquals(TesterExpressionFactory.class, factory2.getClass());
+            Assertions.assertNotSame(factory1, factory2);
+            Assertions.assertEquals(loads, classLoader.loads);
+
+            ExpressionFactory.clearProviderCache(classLoader);
+            ExpressionFactory.newInstance();
+            Assertions.assertTrue(classLoader.loads > loads);
+        } finally {
+            currentThread.setContextClassLoader(original);
+            ExpressionFactory.clearProviderCache(classLoader);
+        }
+    }
+
+    @Test
+    public void testNewInstanceCachesServiceLookup() {
+        Thread currentThread = Thread.currentThread();
+        ClassLoader original = currentThread.getContextClassLoader();
+        CountingClassLoader classLoader = new CountingClassLoader(original);
+        currentThread.setContextClassLoader(classLoader);
+        try {
+            ExpressionFactory.newInstance();
+            Assertions.assertEquals(1, classLoader.serviceLookups);
+
+            // The outcome that there is no service is cached
+            ExpressionFactory.newInstance();
+            Assertions.assertEquals(1, classLoader.serviceLookups);
+
+            ExpressionFactory.clearProviderCache();
+            ExpressionFactory.newInstance();
+            Assertions.assertEquals(2, classLoader.serviceLookups);
+        } finally {
+            currentThread.setContextClassLoader(original);
+            ExpressionFactory.clearProviderCache(classLoader);
+        }
+    }
+
+
+    private static class CountingClassLoader extends ClassLoader {
+
+        private int loads;
+        private int serviceLookups;
+
+        CountingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.equals(TesterExpressionFactory.class.getName())) {
+                loads++;
+            }
+            return super.loadClass(name, resolve);
+        }
+
+        @Override
+        protected Enumeration<URL> findResources(String name) throws IOException {
+            if (name.equals("META-INF/services/" + ExpressionFactory.class.getName())) {
+                serviceLookups++;
+            }
+            return super.findResources(name);
+        }
+    }
+
+
+    private static class CountingExpressionFactory extends TesterExpressionFactory {
+
+        private int coerceCount;
+
+        @Override
+        public <T> T coerceToType(Object obj, Class<T> targetType) {
+            coerceCount++;
+            return super.coerceToType(obj, targetType);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ * Copyright (c) 2025, 2026 Contributors to the Eclipse Foundation
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -15,6 +15,9 @@
  */
 package jakarta.el;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -32,4 +35,102 @@ public class TestImportHandler {
 
         Assertions.assertEquals(TesterUtil.Numbers.class, clazz);
     }
+
+    @Test
+    public void testResolveNull() throws Exception {
+        ImportHandler importHandler = new ImportHandler();
+        importHandler.importPackage("jakarta.el");
+        importHandler.importStatic("jakarta.el.TesterUtil.Numbers.ONE");
+
+        Assertions.assertNull(importHandler.resolveClass(null));
+        Assertions.assertNull(importHandler.resolveStatic(null));
+    }
+
+    @Test
+    public void testResolveClassCachedBetweenInstances() throws Exception {
+        Thread currentThread = Thread.currentThread();
+        ClassLoader original = currentThread.getContextClassLoader();
+        CountingClassLoader classLoader = new CountingClassLoader(original);
+        currentThread.setContextClassLoader(classLoader);
+        try {
+            ImportHandler importHandler = new ImportHandler();
+            importHandler.importPackage("jakarta.el");
+            Assertions.assertNull(importHandler.resolveClass("customer"));
+            Assertions.assertEquals(TesterUtil.class, importHandler.resolveClass("TesterUtil"));
+            int attempts = classLoader.names.size();
+            Assertions.assertTrue(attempts > 0);
+
+            // A new instance must re-use the outcomes of the previous look-ups
+            importHandler = new ImportHandler();
+            importHandler.importPackage("jakarta.el");
+            Assertions.assertNull(importHandler.resolveClass("customer"));
+            Assertions.assertEquals(TesterUtil.class, importHandler.resolveClass("TesterUtil"));
+            Assertions.assertEquals(attempts, classLoader.names.size(), classLoader.names.toString());
+        } finally {
+            currentThread.setContextClassLoader(original);
+        }
+    }
+
+
+    @Test
+    public void testClearClassCache() throws Exception {
+        Thread currentThread = Thread.currentThread();
+        ClassLoader original = currentThread.getContextClassLoader();
+        CountingClassLoader classLoader = new CountingClassLoader(original);
+        currentThread.setContextClassLoader(classLoader);
+        try {
+            ImportHandler importHandler = new ImportHandler();
+            importHandler.importPackage("jakarta.el");
+            Assertions.assertNull(importHandler.resolveClass("customer"));
+            int attempts = classLoader.names.size();
+
+            // Classes that could not be found are looked up again once the cache has been cleared
+            ImportHandler.clearClassCache(classLoader);
+            importHandler = new ImportHandler();
+            importHandler.importPackage("jakarta.el");
+            Assertions.assertNull(importHandler.resolveClass("customer"));
+            Assertions.assertEquals(2 * attempts, classLoader.names.size(), classLoader.names.toString());
+
+            ImportHandler.clearClassCache();
+            importHandler = new ImportHandler();
+            importHandler.importPackage("jakarta.el");
+            Assertions.assertNull(importHandler.resolveClass("customer"));
+            Assertions.assertEquals(3 * attempts, classLoader.names.size(), classLoader.names.toString());
+        } finally {
+            currentThread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void testResolveClassNullClassLoader() throws Exception {
+        Thread currentThread = Thread.currentThread();
+        ClassLoader original = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(null);
+        try {
+            // The bootstrap class loader has its own cache
+            ImportHandler importHandler = new ImportHandler();
+            Assertions.assertEquals(String.class, importHandler.resolveClass("String"));
+            Assertions.assertNull(importHandler.resolveClass("customer"));
+            ImportHandler.clearClassCache(null);
+            Assertions.assertEquals(String.class, new ImportHandler().resolveClass("String"));
+        } finally {
+            currentThread.setContextClassLoader(original);
+        }
+    }
+
+
+    private static class CountingClassLoader extends ClassLoader {
+
+        private final List<String> names = new ArrayList<>();
+
+        CountingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            names.add(name);
+            return super.loadClass(name, resolve);
+        }
+    }
 }
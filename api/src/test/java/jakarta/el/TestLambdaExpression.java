@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestLambdaExpression {
+
+    @Test
+    public void testInvoke() {
+        ELContext context = new TesterELContext();
+        LambdaExpression lambda = new LambdaExpression(List.of("x", "y"),
+                new TesterValueExpression(c -> (String) c.getLambdaArgument("x") + c.getLambdaArgument("y")));
+
+        Assertions.assertEquals("ab", lambda.invoke(context, "a", "b"));
+        Assertions.assertEquals("ab", lambda.invoke(context, "a", "b", "c"));
+        Assertions.assertFalse(context.isLambdaArgument("x"));
+
+        Assertions.assertThrows(ELException.class, () -> lambda.invoke(context, "a"));
+        Assertions.assertFalse(context.isLambdaArgument("x"));
+    }
+
+    @Test
+    public void testInvokeNested() {
+        ELContext context = new TesterELContext();
+        // x -> y -> x + y
+        LambdaExpression inner = new LambdaExpression(List.of("y"),
+                new TesterValueExpression(c -> (String) c.getLambdaArgument("x") + c.getLambdaArgument("y")));
+        LambdaExpression outer = new LambdaExpression(List.of("x"), new TesterValueExpression(c -> inner));
+
+        Object result = outer.invoke(context, "a");
+        Assertions.assertSame(inner, result);
+        Assertions.assertFalse(context.isLambdaArgument("x"));
+
+        // The argument of the outer lambda is available to the inner lambda after the outer lambda has exited
+        Assertions.assertEquals("ab", inner.invoke(context, "b"));
+    }
+
+    @Test
+    public void testInvokeNestedArgumentPrecedence() {
+        ELContext context = new TesterELContext();
+        // x -> x -> x
+        LambdaExpression inner = new LambdaExpression(List.of("x"),
+                new TesterValueExpression(c -> c.getLambdaArgument("x")));
+        LambdaExpression outer = new LambdaExpression(List.of("x"), new TesterValueExpression(c -> inner));
+
+        outer.invoke(context, "outer");
+        Assertions.assertEquals("inner", inner.invoke(context, "inner"));
+    }
+
+
+    private static class TesterValueExpression extends ValueExpression {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Function<ELContext, Object> body;
+
+        TesterValueExpression(Function<ELContext, Object> body) {
+            this.body = body;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T getValue(ELContext context) {
+            return (T) body.apply(context);
+        }
+
+        @Override
+        public void setValue(ELContext context, Object value) {
+            throw new PropertyNotWritableException();
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context) {
+            return true;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context) {
+            return null;
+        }
+
+        @Override
+        public Class<?> getExpectedType() {
+            return Object.class;
+        }
+
+        @Override
+        public String getExpressionString() {
+            return null;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        @Override
+        public boolean isLiteralText() {
+            return false;
+        }
+    }
+}
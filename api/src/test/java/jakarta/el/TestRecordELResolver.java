@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestRecordELResolver {
+
+    @Test
+    public void testGetValue() {
+        RecordELResolver resolver = new RecordELResolver();
+        ELContext context = new TesterELContext();
+        TesterRecord record = new TesterRecord("name", 42);
+
+        Assertions.assertEquals("name", resolver.getValue(context, record, "name"));
+        Assertions.assertTrue(context.isPropertyResolved());
+
+        // The record components are not looked up again
+        long lookups = RecordELResolver.getAccessorLookupCount();
+        context.setPropertyResolved(false);
+        Assertions.assertEquals("name", resolver.getValue(context, record, "name"));
+        Assertions.assertTrue(context.isPropertyResolved());
+        Assertions.assertEquals(Integer.valueOf(42), resolver.getValue(context, record, "count"));
+        Assertions.assertEquals(lookups, RecordELResolver.getAccessorLookupCount());
+    }
+
+    @Test
+    public void testGetValueNonComponentMethod() {
+        RecordELResolver resolver = new RecordELResolver();
+        ELContext context = new TesterELContext();
+        TesterRecord record = new TesterRecord("name", 42);
+
+        Assertions.assertEquals("NAME", resolver.getValue(context, record, "upperName"));
+        Assertions.assertEquals(record.toString(), resolver.getValue(context, record, "toString"));
+    }
+
+    @Test
+    public void testGetValueNotFound() {
+        RecordELResolver resolver = new RecordELResolver();
+        ELContext context = new TesterELContext();
+        TesterRecord record = new TesterRecord("name", 42);
+
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.getValue(context, record, "missing"));
+        Assertions.assertTrue(context.isPropertyResolved());
+
+        // Names that are not properties of the record are not looked up again
+        long lookups = RecordELResolver.getAccessorLookupCount();
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.getValue(context, record, "missing"));
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.getType(context, record, "missing"));
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.isReadOnly(context, record, "missing"));
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.setValue(context, record, "missing", "x"));
+        Assertions.assertEquals(lookups, RecordELResolver.getAccessorLookupCount());
+    }
+
+    @Test
+    public void testGetValueException() {
+        RecordELResolver resolver = new RecordELResolver();
+        ELContext context = new TesterELContext();
+        TesterRecord record = new TesterRecord(null, 42);
+
+        ELException e = Assertions.assertThrows(ELException.class, () -> resolver.getValue(context, record, "upperName"));
+        Assertions.assertEquals(NullPointerException.class, e.getCause().getClass());
+    }
+
+    @Test
+    public void testReadOnly() {
+        RecordELResolver resolver = new RecordELResolver();
+        ELContext context = new TesterELContext();
+        TesterRecord record = new TesterRecord("name", 42);
+
+        Assertions.assertNull(resolver.getType(context, record, "name"));
+        Assertions.assertTrue(resolver.isReadOnly(context, record, "name"));
+        Assertions.assertThrows(PropertyNotWritableException.class, () -> resolver.setValue(context, record, "name", "x"));
+    }
+
+    @Test
+    public void testGetPrimitive() {
+        RecordELResolver resolver = new RecordELResolver();
+        ELContext context = new TesterELContext();
+        TesterRecord record = new TesterRecord("name", 42);
+
+        Assertions.assertEquals(42, resolver.getInt(context, record, "count"));
+        Assertions.assertTrue(context.isPropertyResolved());
+        // Widening conversions
+        Assertions.assertEquals(42L, resolver.getLong(context, record, "count"));
+        Assertions.assertEquals(42.0, resolver.getDouble(context, record, "count"));
+
+        // Values that are not primitives are coerced
+        Assertions.assertThrows(ELException.class, () -> resolver.getBoolean(context, record, "count"));
+        Assertions.assertThrows(ELException.class, () -> resolver.getInt(context, record, "name"));
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.getInt(context, record, "missing"));
+
+        context.setPropertyResolved(false);
+        Assertions.assertEquals(0, resolver.getInt(context, "base", "count"));
+        Assertions.assertFalse(context.isPropertyResolved());
+    }
+
+
+    public record TesterRecord(String name, int count) {
+
+        public String upperName() {
+            return name.toUpperCase();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestResourceBundleELResolver {
+
+    @Test
+    public void testGetValue() {
+        doTestGetValue(false);
+    }
+
+    @Test
+    public void testGetValueBundleCache() {
+        doTestGetValue(true);
+    }
+
+    @Test
+    public void testBundleCacheMissesDoNotUseBundle() {
+        ResourceBundleELResolver resolver = new ResourceBundleELResolver();
+        resolver.setBundleCacheEnabled(true);
+        Assertions.assertTrue(resolver.isBundleCacheEnabled());
+        ELContext context = new TesterELContext();
+        TesterBundle bundle = new TesterBundle(new TesterParentBundle());
+
+        Assertions.assertEquals("???missing???", resolver.getValue(context, bundle, "missing"));
+        int lookups = bundle.lookups;
+        Assertions.assertEquals("???missing???", resolver.getValue(context, bundle, "missing"));
+        Assertions.assertEquals("child", resolver.getValue(context, bundle, "key"));
+        Assertions.assertEquals(lookups, bundle.lookups);
+    }
+
+    @Test
+    public void testBundleCacheUsesIdentity() {
+        ResourceBundleELResolver resolver = new ResourceBundleELResolver();
+        resolver.setBundleCacheEnabled(true);
+        ELContext context = new TesterELContext();
+
+        // Bundles that are equal must still be cached separately
+        ResourceBundle first = new TesterEqualBundle("first");
+        ResourceBundle second = new TesterEqualBundle("second");
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals("first", resolver.getValue(context, first, "key"));
+        Assertions.assertEquals("second", resolver.getValue(context, second, "key"));
+        Assertions.assertEquals("first", resolver.getValue(context, first, "key"));
+    }
+
+    @Test
+    public void testBundleCacheConcurrent() throws Exception {
+        ResourceBundleELResolver resolver = new ResourceBundleELResolver();
+        resolver.setBundleCacheEnabled(true);
+        ResourceBundle[] bundles = new ResourceBundle[8];
+        for (int i = 0; i < bundles.length; i++) {
+            bundles[i] = new TesterEqualBundle("value" + i);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    ELContext context = new TesterELContext();
+                    for (int i = 0; i < 1000; i++) {
+                        int index = i % bundles.length;
+                        ResourceBundle bundle = bundles[index];
+                        Assertions.assertEquals("value" + index, resolver.getValue(context, bundle, "key"));
+                        Assertions.assertEquals("???missing???", resolver.getValue(context, bundle, "missing"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void doTestGetValue(boolean bundleCacheEnabled) {
+        ResourceBundleELResolver resolver = new ResourceBundleELResolver();
+        resolver.setBundleCacheEnabled(bundleCacheEnabled);
+        ELContext context = new TesterELContext();
+        ResourceBundle bundle = new TesterBundle(new TesterParentBundle());
+
+        Assertions.assertEquals("child", resolver.getValue(context, bundle, "key"));
+        Assertions.assertTrue(context.isPropertyResolved());
+        Assertions.assertEquals("parent", resolver.getValue(context, bundle, "parentKey"));
+        Assertions.assertEquals(Integer.valueOf(1), resolver.getValue(context, bundle, "number"));
+        Assertions.assertEquals("???missing???", resolver.getValue(context, bundle, "missing"));
+        Assertions.assertNull(resolver.getValue(context, bundle, null));
+        Assertions.assertNull(resolver.getValue(context, "notABundle", "key"));
+    }
+
+
+    private static class TesterParentBundle extends ListResourceBundle {
+
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] { { "key", "parent" }, { "parentKey", "parent" } };
+        }
+    }
+
+
+    /*
+     * Equal to every other instance, which ResourceBundle permits.
+     */
+    private static class TesterEqualBundle extends ListResourceBundle {
+
+        private final String value;
+
+        TesterEqualBundle(String value) {
+            this.value = value;
+        }
+
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] { { "key", value } };
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof TesterEqualBundle;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+
+    private static class TesterBundle extends ResourceBundle {
+
+        private final Map<String, Object> contents = Map.of("key", "child", "number", Integer.valueOf(1));
+        private int lookups;
+
+        TesterBundle(ResourceBundle parent) {
+            setParent(parent);
+        }
+
+        @Override
+        protected Object handleGetObject(String key) {
+            lookups++;
+            return contents.get(key);
+        }
+
+        @Override
+        public Enumeration<String> getKeys() {
+            return Collections.enumeration(contents.keySet());
+        }
+    }
+}
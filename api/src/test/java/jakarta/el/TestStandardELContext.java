@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestStandardELContext {
+
+    @Test
+    public void testSharedELResolver() {
+        ExpressionFactory factory = new TesterExpressionFactory();
+        ELResolver shared = StandardELContext.createSharedELResolver(factory);
+
+        StandardELContext context1 = new StandardELContext(factory, shared);
+        StandardELContext context2 = new StandardELContext(factory, shared);
+        context1.getBeans().put("bean", "one");
+        context2.getBeans().put("bean", "two");
+
+        // Local beans are not shared
+        Assertions.assertEquals("one", context1.getELResolver().getValue(context1, null, "bean"));
+        Assertions.assertEquals("two", context2.getELResolver().getValue(context2, null, "bean"));
+
+        // The standard resolvers are provided by the shared resolver
+        Map<String, String> map = Map.of("key", "value");
+        context1.setPropertyResolved(false);
+        Assertions.assertEquals("value", context1.getELResolver().getValue(context1, map, "key"));
+        Assertions.assertTrue(context1.isPropertyResolved());
+        context1.setPropertyResolved(false);
+        Assertions.assertEquals("value", shared.getValue(context1, map, "key"));
+    }
+
+    @Test
+    public void testSharedELResolverCustomResolver() {
+        ExpressionFactory factory = new TesterExpressionFactory();
+        ELResolver shared = StandardELContext.createSharedELResolver(factory);
+
+        StandardELContext context1 = new StandardELContext(factory, shared);
+        StandardELContext context2 = new StandardELContext(factory, shared);
+        context1.addELResolver(new MapELResolver() {
+            @Override
+            public Object getValue(ELContext context, Object base, Object property) {
+                if (base instanceof Map) {
+                    context.setPropertyResolved(base, property);
+                    return "custom";
+                }
+                return null;
+            }
+        });
+
+        // Custom resolvers are consulted before the shared resolver and only for the context they were added to
+        Map<String, String> map = Map.of("key", "value");
+        Assertions.assertEquals("custom", context1.getELResolver().getValue(context1, map, "key"));
+        Assertions.assertEquals("value", context2.getELResolver().getValue(context2, map, "key"));
+    }
+
+    @Test
+    public void testSharedELResolverImmutable() {
+        CompositeELResolver shared = (CompositeELResolver) StandardELContext.createSharedELResolver(new TesterExpressionFactory());
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> shared.add(new MapELResolver()));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> shared.setDispatchPlanEnabled(false));
+    }
+
+    @Test
+    public void testELManagerUsesSharedELResolver() {
+        ELManager manager = new ELManager();
+        StandardELContext context = manager.getELContext();
+        manager.defineBean("bean", "value");
+
+        Assertions.assertEquals("value", context.getELResolver().getValue(context, null, "bean"));
+        context.setPropertyResolved(false);
+        Assertions.assertEquals(Integer.valueOf(Integer.MAX_VALUE),
+                context.getELResolver().getValue(context, new ELClass(Integer.class), "MAX_VALUE"));
+        Assertions.assertSame(ELManager.getSharedELResolver(), ELManager.getSharedELResolver());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestStaticFieldELResolver {
+
+    @Test
+    public void testGetValueConstant() {
+        StaticFieldELResolver resolver = new StaticFieldELResolver();
+        ELContext context = new TesterELContext();
+        ELClass elClass = new ELClass(Integer.class);
+
+        Assertions.assertEquals(Integer.valueOf(Integer.MAX_VALUE), resolver.getValue(context, elClass, "MAX_VALUE"));
+        Assertions.assertTrue(context.isPropertyResolved());
+
+        // The field is not looked up again
+        long lookups = StaticFieldELResolver.getFieldLookupCount();
+        context.setPropertyResolved(false);
+        Assertions.assertEquals(Integer.valueOf(Integer.MAX_VALUE), resolver.getValue(context, elClass, "MAX_VALUE"));
+        Assertions.assertTrue(context.isPropertyResolved());
+        Assertions.assertEquals(lookups, StaticFieldELResolver.getFieldLookupCount());
+    }
+
+    @Test
+    public void testGetValueEnum() {
+        StaticFieldELResolver resolver = new StaticFieldELResolver();
+        ELContext context = new TesterELContext();
+        ELClass elClass = new ELClass(TesterEnum.class);
+
+        Assertions.assertSame(TesterEnum.ACTIVE, resolver.getValue(context, elClass, "ACTIVE"));
+        Assertions.assertSame(TesterEnum.ACTIVE, resolver.getValue(context, elClass, "ACTIVE"));
+        Assertions.assertSame(TesterEnum.INACTIVE, resolver.getValue(context, elClass, "INACTIVE"));
+    }
+
+    @Test
+    public void testGetValueNonFinal() {
+        StaticFieldELResolver resolver = new StaticFieldELResolver();
+        ELContext context = new TesterELContext();
+        ELClass elClass = new ELClass(TesterFields.class);
+
+        TesterFields.counter = 1;
+        Assertions.assertEquals(Integer.valueOf(1), resolver.getValue(context, elClass, "counter"));
+        // Non-final fields must not be treated as constants
+        TesterFields.counter = 2;
+        Assertions.assertEquals(Integer.valueOf(2), resolver.getValue(context, elClass, "counter"));
+    }
+
+    @Test
+    public void testGetValueNotFound() {
+        StaticFieldELResolver resolver = new StaticFieldELResolver();
+        ELContext context = new TesterELContext();
+        ELClass elClass = new ELClass(TesterFields.class);
+
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.getValue(context, elClass, "missing"));
+        Assertions.assertTrue(context.isPropertyResolved());
+        context.setPropertyResolved(false);
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.getValue(context, elClass, "instance"));
+        Assertions.assertTrue(context.isPropertyResolved());
+
+        // Names that are not public static fields are not looked up again
+        long lookups = StaticFieldELResolver.getFieldLookupCount();
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.getValue(context, elClass, "missing"));
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.getValue(context, elClass, "instance"));
+        Assertions.assertThrows(PropertyNotFoundException.class, () -> resolver.getType(context, elClass, "missing"));
+        Assertions.assertEquals(lookups, StaticFieldELResolver.getFieldLookupCount());
+    }
+
+    @Test
+    public void testGetType() {
+        StaticFieldELResolver resolver = new StaticFieldELResolver();
+        ELContext context = new TesterELContext();
+        ELClass elClass = new ELClass(TesterFields.class);
+
+        Assertions.assertNull(resolver.getType(context, elClass, "NAME"));
+        Assertions.assertTrue(context.isPropertyResolved());
+        Assertions.assertEquals("name", resolver.getValue(context, elClass, "NAME"));
+        Assertions.assertNull(resolver.getType(context, elClass, "NAME"));
+    }
+
+
+    public enum TesterEnum {
+        ACTIVE,
+        INACTIVE
+    }
+
+
+    public static class TesterFields {
+
+        public static final String NAME = "name";
+
+        public static int counter;
+
+        public String instance = "instance";
+    }
+}
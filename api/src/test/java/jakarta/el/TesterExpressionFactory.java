@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package jakarta.el;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal {@link ExpressionFactory} for tests that need one. The value of a created expression is the expression
+ * string. Coercion only supports assignable types.
+ */
+public class TesterExpressionFactory extends ExpressionFactory {
+
+    static final AtomicInteger CREATE_COUNT = new AtomicInteger();
+    static final AtomicInteger COERCE_COUNT = new AtomicInteger();
+
+    @Override
+    public ValueExpression createValueExpression(ELContext context, String expression, Class<?> expectedType) {
+        CREATE_COUNT.incrementAndGet();
+        return new TesterValueExpression(expression, expectedType);
+    }
+
+    @Override
+    public ValueExpression createValueExpression(Object instance, Class<?> expectedType) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MethodExpression createMethodExpression(ELContext context, String expression, Class<?> expectedReturnType,
+            Class<?>[] expectedParamTypes) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> T coerceToType(Object obj, Class<T> targetType) {
+        COERCE_COUNT.incrementAndGet();
+        if (obj == null || ELUtil.getBoxingTypeIfPrimitive(targetType).isInstance(obj)) {
+            @SuppressWarnings("unchecked")
+            T result = (T) obj;
+            return result;
+        }
+        throw new ELException("Cannot coerce [" + obj + "] to [" + targetType.getName() + "]");
+    }
+
+
+    private static class TesterValueExpression extends ValueExpression {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String expression;
+        private final Class<?> expectedType;
+
+        TesterValueExpression(String expression, Class<?> expectedType) {
+            this.expression = expression;
+            this.expectedType = expectedType;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T getValue(ELContext context) {
+            return (T) expression;
+        }
+
+        @Override
+        public void setValue(ELContext context, Object value) {
+            throw new PropertyNotWritableException();
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context) {
+            return true;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context) {
+            return String.class;
+        }
+
+        @Override
+        public Class<?> getExpectedType() {
+            return expectedType;
+        }
+
+        @Override
+        public String getExpressionString() {
+            return expression;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof TesterValueExpression && expression.equals(((TesterValueExpression) obj).expression);
+        }
+
+        @Override
+        public int hashCode() {
+            return expression.hashCode();
+        }
+
+        @Override
+        public boolean isLiteralText() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.el.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.el.BeanELResolver;
+import jakarta.el.ELContext;
+import jakarta.el.StandardELContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Property reads, property writes and method invocation via {@link BeanELResolver}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeanELResolverBenchmark {
+
+    private static final Class<?>[] GREET_PARAM_TYPES = new Class<?>[] { String.class };
+
+    private BeanELResolver resolver;
+    private ELContext context;
+    private TesterBean bean;
+    private Object[] greetParams;
+
+    @Setup
+    public void setup() {
+        resolver = new BeanELResolver();
+        context = new StandardELContext(new StubExpressionFactory());
+        bean = new TesterBean();
+        greetParams = new Object[] { "world" };
+    }
+
+    @Benchmark
+    public Object getValue() {
+        return resolver.getValue(context, bean, "name");
+    }
+
+    @Benchmark
+    public void setValue() {
+        resolver.setValue(context, bean, "name", "bean");
+    }
+
+    @Benchmark
+    public Object getType() {
+        return resolver.getType(context, bean, "count");
+    }
+
+    @Benchmark
+    public Object invoke() {
+        return resolver.invoke(context, bean, "greet", GREET_PARAM_TYPES, greetParams);
+    }
+
+    @Benchmark
+    public Object invokeWithoutParamTypes() {
+        return resolver.invoke(context, bean, "greet", null, greetParams);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.el.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.el.ArrayELResolver;
+import jakarta.el.ELContext;
+import jakarta.el.ListELResolver;
+import jakarta.el.MapELResolver;
+import jakarta.el.StandardELContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Element access via {@link MapELResolver}, {@link ListELResolver} and {@link ArrayELResolver}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollectionELResolverBenchmark {
+
+    @Param({ "16" })
+    private int size;
+
+    private MapELResolver mapResolver;
+    private ListELResolver listResolver;
+    private ArrayELResolver arrayResolver;
+    private ELContext context;
+
+    private Map<String, Object> map;
+    private List<Object> list;
+    private Object[] objectArray;
+    private int[] intArray;
+    private String key;
+    private Integer index;
+    private Long longIndex;
+
+    @Setup
+    public void setup() {
+        mapResolver = new MapELResolver();
+        listResolver = new ListELResolver();
+        arrayResolver = new ArrayELResolver();
+        context = new StandardELContext(new StubExpressionFactory());
+
+        map = new HashMap<>();
+        list = new ArrayList<>();
+        objectArray = new Object[size];
+        intArray = new int[size];
+        for (int i = 0; i < size; i++) {
+            map.put("key" + i, Integer.valueOf(i));
+            list.add(Integer.valueOf(i));
+            objectArray[i] = Integer.valueOf(i);
+            intArray[i] = i;
+        }
+        key = "key" + (size / 2);
+        index = Integer.valueOf(size / 2);
+        longIndex = Long.valueOf(size / 2);
+    }
+
+    @Benchmark
+    public Object mapGetValue() {
+        return mapResolver.getValue(context, map, key);
+    }
+
+    @Benchmark
+    public void mapSetValue() {
+        mapResolver.setValue(context, map, key, index);
+    }
+
+    @Benchmark
+    public Object listGetValue() {
+        return listResolver.getValue(context, list, index);
+    }
+
+    @Benchmark
+    public void listSetValue() {
+        listResolver.setValue(context, list, index, index);
+    }
+
+    @Benchmark
+    public Object objectArrayGetValue() {
+        return arrayResolver.getValue(context, objectArray, index);
+    }
+
+    @Benchmark
+    public Object objectArrayGetValueLongIndex() {
+        return arrayResolver.getValue(context, objectArray, longIndex);
+    }
+
+    @Benchmark
+    public void objectArraySetValue() {
+        arrayResolver.setValue(context, objectArray, index, index);
+    }
+
+    @Benchmark
+    public Object intArrayGetValue() {
+        return arrayResolver.getValue(context, intArray, index);
+    }
+}
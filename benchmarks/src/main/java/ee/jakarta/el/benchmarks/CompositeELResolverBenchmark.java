@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.el.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.el.ArrayELResolver;
+import jakarta.el.BeanELResolver;
+import jakarta.el.CompositeELResolver;
+import jakarta.el.ELContext;
+import jakarta.el.ListELResolver;
+import jakarta.el.MapELResolver;
+import jakarta.el.OptionalELResolver;
+import jakarta.el.RecordELResolver;
+import jakarta.el.ResourceBundleELResolver;
+import jakarta.el.StandardELContext;
+import jakarta.el.StaticFieldELResolver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Dispatch through a {@link CompositeELResolver} configured with the same resolvers, in the same order, as
+ * {@link StandardELContext}. A bean base is only resolved by the last resolver in the chain whereas a map base is
+ * resolved early.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompositeELResolverBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean dispatchPlan;
+
+    private CompositeELResolver resolver;
+    private ELContext context;
+    private TesterBean bean;
+    private Map<String, Object> map;
+
+    @Setup
+    public void setup() {
+        resolver = new CompositeELResolver();
+        resolver.add(new StaticFieldELResolver());
+        resolver.add(new MapELResolver());
+        resolver.add(new ResourceBundleELResolver());
+        resolver.add(new ListELResolver());
+        resolver.add(new ArrayELResolver());
+        resolver.add(new RecordELResolver());
+        resolver.add(new OptionalELResolver());
+        resolver.add(new BeanELResolver());
+        resolver.setDispatchPlanEnabled(dispatchPlan);
+
+        context = new StandardELContext(new StubExpressionFactory());
+        bean = new TesterBean();
+        map = new HashMap<>();
+        map.put("name", "map");
+    }
+
+    @Benchmark
+    public Object beanGetValue() {
+        return resolver.getValue(context, bean, "name");
+    }
+
+    @Benchmark
+    public Object mapGetValue() {
+        return resolver.getValue(context, map, "name");
+    }
+
+    @Benchmark
+    public Object beanIsReadOnly() {
+        return Boolean.valueOf(resolver.isReadOnly(context, bean, "name"));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.el.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.el.ELProcessor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End to end evaluation via {@link ELProcessor#eval(String)} using {@link StubExpressionFactory}. This includes
+ * expression creation and the resolution of a bean defined via {@link ELProcessor#defineBean(String, Object)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ELProcessorBenchmark {
+
+    private ELProcessor processor;
+
+    @Setup
+    public void setup() {
+        processor = new ELProcessor();
+        TesterBean bean = new TesterBean();
+        bean.setChild(new TesterBean());
+        processor.defineBean("bean", bean);
+    }
+
+    @Benchmark
+    public Object evalBean() {
+        return processor.eval("bean");
+    }
+
+    @Benchmark
+    public Object evalProperty() {
+        return processor.eval("bean.name");
+    }
+
+    @Benchmark
+    public Object evalNestedProperty() {
+        return processor.eval("bean.child.name");
+    }
+
+    @Benchmark
+    public void setValue() {
+        processor.setValue("bean.name", "bean");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.el.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.el.ImportHandler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class name resolution via {@link ImportHandler#resolveClass(String)} for a class in an implicitly imported package,
+ * an explicitly imported class, a class in an imported package and a name that is not a class.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ImportHandlerBenchmark {
+
+    private ImportHandler importHandler;
+
+    @Setup
+    public void setup() {
+        importHandler = new ImportHandler();
+        importHandler.importClass("java.util.ArrayList");
+        importHandler.importPackage("java.util.concurrent");
+    }
+
+    @Benchmark
+    public Object resolveJavaLang() {
+        return importHandler.resolveClass("String");
+    }
+
+    @Benchmark
+    public Object resolveImportedClass() {
+        return importHandler.resolveClass("ArrayList");
+    }
+
+    @Benchmark
+    public Object resolveImportedPackage() {
+        return importHandler.resolveClass("ConcurrentHashMap");
+    }
+
+    @Benchmark
+    public Object resolveNotAClass() {
+        return importHandler.resolveClass("notAClass");
+    }
+
+    @Benchmark
+    public Object resolveNotAClassNewHandler() {
+        // Measures the cost of a miss when nothing has been cached by a previous lookup
+        ImportHandler handler = new ImportHandler();
+        handler.importPackage("java.util.concurrent");
+        return handler.resolveClass("notAClass");
+    }
+}
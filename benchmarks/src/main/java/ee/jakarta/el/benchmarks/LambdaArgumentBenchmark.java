@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.el.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.el.ELContext;
+import jakarta.el.StandardELContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lambda argument lookup via {@link ELContext#isLambdaArgument(String)} and {@link ELContext#getLambdaArgument(String)}
+ * with the requested argument in the outermost of a configurable number of nested lambda scopes, plus the cost of
+ * entering and exiting a scope.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LambdaArgumentBenchmark {
+
+    @Param({ "1", "4" })
+    private int depth;
+
+    private ELContext context;
+    private Map<String, Object> innerArgs;
+
+    @Setup
+    public void setup() {
+        context = new StandardELContext(new StubExpressionFactory());
+        for (int i = 0; i < depth; i++) {
+            Map<String, Object> args = new HashMap<>();
+            args.put("arg" + i, Integer.valueOf(i));
+            context.enterLambdaScope(args);
+        }
+        innerArgs = new HashMap<>();
+        innerArgs.put("x", "x");
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (int i = 0; i < depth; i++) {
+            context.exitLambdaScope();
+        }
+    }
+
+    @Benchmark
+    public Object getLambdaArgument() {
+        if (context.isLambdaArgument("arg0")) {
+            return context.getLambdaArgument("arg0");
+        }
+        return null;
+    }
+
+    @Benchmark
+    public boolean isNotLambdaArgument() {
+        return context.isLambdaArgument("notAnArgument");
+    }
+
+    @Benchmark
+    public Object enterAndExitLambdaScope() {
+        context.enterLambdaScope(innerArgs);
+        Object result = context.getLambdaArgument("x");
+        context.exitLambdaScope();
+        return result;
+    }
+}
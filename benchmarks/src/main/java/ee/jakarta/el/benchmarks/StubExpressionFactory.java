@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.el.benchmarks;
+
+import jakarta.el.ELContext;
+import jakarta.el.ELException;
+import jakarta.el.ExpressionFactory;
+import jakarta.el.MethodExpression;
+import jakarta.el.PropertyNotFoundException;
+import jakarta.el.ValueExpression;
+
+/**
+ * A minimal {@link ExpressionFactory} so that the benchmarks can use {@link jakarta.el.ELManager} and
+ * {@link jakarta.el.ELProcessor} without an external implementation. It is registered via
+ * <code>META-INF/services</code>.
+ *
+ * <p>
+ * Only single composite expressions of the form <code>${a.b.c}</code> are supported. The first identifier is
+ * resolved as a lambda argument, if one is in scope, or via the {@link ELContext#getELResolver()} with a
+ * <code>null</code> base. Each further identifier is resolved as a property of the previous value. Any other text is
+ * treated as literal text. Coercion only supports assignable types and <code>String</code>.
+ * </p>
+ *
+ * <p>
+ * This is deliberately not a conforming implementation. Parsing is done once, when the expression is created, so that
+ * evaluation measures the API rather than the stub.
+ * </p>
+ */
+public class StubExpressionFactory extends ExpressionFactory {
+
+    @Override
+    public ValueExpression createValueExpression(ELContext context, String expression, Class<?> expectedType) {
+        if (expression == null) {
+            throw new NullPointerException("Expression cannot be null");
+        }
+        return new StubValueExpression(expression, expectedType, this);
+    }
+
+    @Override
+    public ValueExpression createValueExpression(Object instance, Class<?> expectedType) {
+        return new StubValueExpression(instance, expectedType, this);
+    }
+
+    @Override
+    public MethodExpression createMethodExpression(ELContext context, String expression, Class<?> expectedReturnType,
+            Class<?>[] expectedParamTypes) {
+        throw new UnsupportedOperationException("Method expressions are not supported by the stub expression factory");
+    }
+
+    @Override
+    public <T> T coerceToType(Object obj, Class<T> targetType) {
+        if (targetType == null) {
+            throw new NullPointerException("Target type cannot be null");
+        }
+        if (obj == null || targetType.isInstance(obj)) {
+            return targetType.cast(obj);
+        }
+        if (targetType == String.class) {
+            return targetType.cast(obj.toString());
+        }
+        throw new ELException("Cannot coerce [" + obj.getClass().getName() + "] to [" + targetType.getName() + "]");
+    }
+
+
+    private static class StubValueExpression extends ValueExpression {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String expression;
+        private final Class<?> expectedType;
+        private final transient ExpressionFactory factory;
+        private final String[] identifiers;
+        private final transient Object literal;
+
+        StubValueExpression(String expression, Class<?> expectedType, ExpressionFactory factory) {
+            this.expression = expression;
+            this.expectedType = expectedType;
+            this.factory = factory;
+            if (expression.startsWith("${") && expression.endsWith("}")) {
+                identifiers = expression.substring(2, expression.length() - 1).trim().split("\\.");
+                literal = null;
+            } else {
+                identifiers = null;
+                literal = expression;
+            }
+        }
+
+        StubValueExpression(Object instance, Class<?> expectedType, ExpressionFactory factory) {
+            this.expression = String.valueOf(instance);
+            this.expectedType = expectedType;
+            this.factory = factory;
+            this.identifiers = null;
+            this.literal = instance;
+        }
+
+        @Override
+        public <T> T getValue(ELContext context) {
+            Object value;
+            if (identifiers == null) {
+                value = literal;
+            } else {
+                value = resolve(context, identifiers.length);
+            }
+            if (expectedType != null) {
+                value = factory.coerceToType(value, expectedType);
+            }
+            @SuppressWarnings("unchecked")
+            T result = (T) value;
+            return result;
+        }
+
+        @Override
+        public void setValue(ELContext context, Object value) {
+            if (identifiers == null) {
+                throw new PropertyNotFoundException("Literal text is read only");
+            }
+            Object base = resolve(context, identifiers.length - 1);
+            context.setPropertyResolved(false);
+            context.getELResolver().setValue(context, base, identifiers[identifiers.length - 1], value);
+            checkResolved(context, identifiers.length - 1);
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context) {
+            if (identifiers == null) {
+                return true;
+            }
+            Object base = resolve(context, identifiers.length - 1);
+            context.setPropertyResolved(false);
+            boolean result = context.getELResolver().isReadOnly(context, base, identifiers[identifiers.length - 1]);
+            checkResolved(context, identifiers.length - 1);
+            return result;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context) {
+            if (identifiers == null) {
+                return null;
+            }
+            Object base = resolve(context, identifiers.length - 1);
+            context.setPropertyResolved(false);
+            Class<?> result = context.getELResolver().getType(context, base, identifiers[identifiers.length - 1]);
+            checkResolved(context, identifiers.length - 1);
+            return result;
+        }
+
+        @Override
+        public Class<?> getExpectedType() {
+            return expectedType;
+        }
+
+        @Override
+        public String getExpressionString() {
+            return expression;
+        }
+
+        @Override
+        public boolean isLiteralText() {
+            return identifiers == null;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof StubValueExpression && expression.equals(((StubValueExpression) obj).expression);
+        }
+
+        @Override
+        public int hashCode() {
+            return expression.hashCode();
+        }
+
+        /*
+         * Resolves the first count identifiers.
+         */
+        private Object resolve(ELContext context, int count) {
+            Object value = null;
+            for (int i = 0; i < count; i++) {
+                if (i == 0 && context.isLambdaArgument(identifiers[0])) {
+                    value = context.getLambdaArgument(identifiers[0]);
+                    continue;
+                }
+                context.setPropertyResolved(false);
+                value = context.getELResolver().getValue(context, value, identifiers[i]);
+                checkResolved(context, i);
+            }
+            return value;
+        }
+
+        private void checkResolved(ELContext context, int index) {
+            if (!context.isPropertyResolved()) {
+                throw new PropertyNotFoundException(
+                        "Unable to resolve [" + identifiers[index] + "] in [" + expression + "]");
+            }
+        }
+    }
+}